@@ -131,6 +131,22 @@ export const notificationAPI = {
     return response.data;
   },
 
+  // 사용자별 알림 피드 조회 (커서 기반)
+  getNotificationFeed: async (userId, { cursor, size = 20, unreadOnly = false } = {}) => {
+    const response = await api.get(`/api/notifications/user/${userId}/feed`, {
+      params: { cursor, size, unreadOnly },
+    });
+    return response.data;
+  },
+
+  // 실시간 알림 스트림 연결 (EventSource는 헤더를 지정할 수 없어 일회용 티켓을 발급받아 쿼리로 전달)
+  openNotificationStream: async () => {
+    const response = await api.post('/api/notifications/stream/ticket');
+    const url = new URL('/api/notifications/stream', api.defaults.baseURL);
+    url.searchParams.set('ticket', response.data.ticket);
+    return new EventSource(url.toString());
+  },
+
   // 읽지 않은 알림 개수 조회
   getUnreadCount: async (userId) => {
     const response = await api.get(`/api/notifications/user/${userId}/unread-count`);
@@ -149,12 +165,24 @@ export const notificationAPI = {
     return response.data;
   },
 
+  // 지정한 알림 일괄 읽음 처리
+  markAsReadBulk: async (userId, notificationIds) => {
+    const response = await api.put(`/api/notifications/user/${userId}/bulk-read`, { notificationIds });
+    return response.data.updated;
+  },
+
   // 알림 삭제
   deleteNotification: async (notificationId, userId) => {
     const response = await api.delete(`/api/notifications/${notificationId}/user/${userId}`);
     return response.data;
   },
 
+  // 지정한 알림 일괄 삭제
+  deleteNotificationsBulk: async (userId, notificationIds) => {
+    const response = await api.post(`/api/notifications/user/${userId}/bulk-delete`, { notificationIds });
+    return response.data.deleted;
+  },
+
   // 모든 알림 삭제
   clearAllNotifications: async (userId) => {
     const response = await api.delete(`/api/notifications/user/${userId}/clear-all`);
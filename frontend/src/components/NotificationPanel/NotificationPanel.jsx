@@ -35,6 +35,9 @@ const NotificationPanel = () => {
     markAllAsRead,
     deleteNotification,
     clearAllNotifications,
+    hasMore,
+    loadingMore,
+    loadMoreNotifications,
   } = useNotifications();
 
   const [anchorEl, setAnchorEl] = useState(null);
@@ -88,7 +91,7 @@ const NotificationPanel = () => {
     }
   };
 
-  const sortedNotifications = notifications.sort((a, b) => {
+  const sortedNotifications = [...notifications].sort((a, b) => {
     // 읽지 않은 것을 먼저, 그 다음 우선순위, 마지막으로 시간순
     if (a.isRead !== b.isRead) {
       return a.isRead - b.isRead;
@@ -287,6 +290,18 @@ const NotificationPanel = () => {
                   </ListItemSecondaryAction>
                 </ListItem>
               ))}
+              {hasMore && (
+                <Box sx={{ textAlign: 'center', mt: 1 }}>
+                  <Button
+                    size="small"
+                    onClick={loadMoreNotifications}
+                    disabled={loadingMore}
+                    sx={{ fontSize: '0.75rem' }}
+                  >
+                    {loadingMore ? '불러오는 중...' : '더 보기'}
+                  </Button>
+                </Box>
+              )}
             </List>
           )}
 
@@ -1,9 +1,15 @@
-import { createContext, useContext, useState, useEffect } from 'react';
+import { createContext, useContext, useState, useEffect, useRef } from 'react';
 import { useAuth } from './AuthContext';
 import { notificationAPI, handleApiError } from '../api';
 
 const NotificationContext = createContext();
 
+// 알림 피드 한 페이지 크기
+const FEED_PAGE_SIZE = 20;
+
+// 실시간 스트림이 닫혔을 때 다시 연결하기까지 대기 시간 (ms)
+const STREAM_RETRY_DELAY = 5000;
+
 export const useNotifications = () => {
   const context = useContext(NotificationContext);
   if (!context) {
@@ -17,6 +23,8 @@ export const NotificationProvider = ({ children }) => {
   const [notifications, setNotifications] = useState([]);
   const [unreadCount, setUnreadCount] = useState(0);
   const [loading, setLoading] = useState(false);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   // 백엔드 데이터를 프론트엔드 형식으로 변환
   const transformNotification = (backendNotification) => {
@@ -34,19 +42,20 @@ export const NotificationProvider = ({ children }) => {
     };
   };
 
-  // 알림 데이터 로드
+  // 알림 데이터 로드 (피드 첫 페이지만)
   const loadNotifications = async () => {
     if (!user?.userId) return;
 
     try {
       setLoading(true);
-      const [notificationsData, unreadCountData] = await Promise.all([
-        notificationAPI.getNotifications(user.userId),
+      const [feed, unreadCountData] = await Promise.all([
+        notificationAPI.getNotificationFeed(user.userId, { size: FEED_PAGE_SIZE }),
         notificationAPI.getUnreadCount(user.userId)
       ]);
       
-      const transformedNotifications = notificationsData.map(transformNotification);
+      const transformedNotifications = feed.items.map(transformNotification);
       setNotifications(transformedNotifications);
+      setNextCursor(feed.hasNext ? feed.nextCursor : null);
       setUnreadCount(unreadCountData);
     } catch (error) {
       console.error('알림 로드 실패:', error);
@@ -56,6 +65,31 @@ export const NotificationProvider = ({ children }) => {
     }
   };
 
+  // 다음 페이지 로드
+  const loadMoreNotifications = async () => {
+    if (!user?.userId || !nextCursor || loadingMore) return;
+
+    try {
+      setLoadingMore(true);
+      const feed = await notificationAPI.getNotificationFeed(user.userId, {
+        cursor: nextCursor,
+        size: FEED_PAGE_SIZE,
+      });
+
+      const transformedNotifications = feed.items.map(transformNotification);
+      setNotifications(prev => {
+        const loadedIds = new Set(prev.map(notification => notification.id));
+        return [...prev, ...transformedNotifications.filter(notification => !loadedIds.has(notification.id))];
+      });
+      setNextCursor(feed.hasNext ? feed.nextCursor : null);
+    } catch (error) {
+      console.error('알림 추가 로드 실패:', error);
+      handleApiError(error);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   // 사용자 로그인 시 알림 로드
   useEffect(() => {
     if (user?.userId) {
@@ -63,9 +97,94 @@ export const NotificationProvider = ({ children }) => {
     } else {
       setNotifications([]);
       setUnreadCount(0);
+      setNextCursor(null);
     }
   }, [user?.userId]);
 
+  // 새 알림 추가 (스트림과 직접 생성 응답이 겹쳐도 한 번만 반영)
+  const notificationsRef = useRef(notifications);
+  notificationsRef.current = notifications;
+
+  const addNotification = (notification) => {
+    if (notificationsRef.current.some(existing => existing.id === notification.id)) {
+      return;
+    }
+    notificationsRef.current = [notification, ...notificationsRef.current];
+    setNotifications(prev => (
+      prev.some(existing => existing.id === notification.id) ? prev : [notification, ...prev]
+    ));
+    if (!notification.isRead) {
+      setUnreadCount(prev => prev + 1);
+    }
+  };
+
+  // 최신 loadNotifications를 스트림 핸들러에서 참조
+  const loadNotificationsRef = useRef(loadNotifications);
+  loadNotificationsRef.current = loadNotifications;
+
+  // 실시간 알림 스트림 (SSE)
+  useEffect(() => {
+    if (!user?.userId || typeof EventSource === 'undefined') return;
+
+    let eventSource = null;
+    let retryTimer = null;
+    let connectedOnce = false;
+    let closed = false;
+
+    const scheduleReconnect = () => {
+      if (!closed) {
+        retryTimer = setTimeout(connect, STREAM_RETRY_DELAY);
+      }
+    };
+
+    const connect = async () => {
+      let source;
+      try {
+        source = await notificationAPI.openNotificationStream();
+      } catch (error) {
+        console.error('알림 스트림 티켓 발급 실패:', error);
+        scheduleReconnect();
+        return;
+      }
+      if (closed) {
+        source.close();
+        return;
+      }
+      eventSource = source;
+
+      eventSource.addEventListener('connected', () => {
+        // 재연결이면 끊겨 있던 동안의 알림을 다시 읽는다
+        if (connectedOnce) {
+          loadNotificationsRef.current();
+        }
+        connectedOnce = true;
+      });
+
+      eventSource.addEventListener('notification', (event) => {
+        const { notification } = JSON.parse(event.data);
+        addNotification(transformNotification(notification));
+      });
+
+      eventSource.addEventListener('refresh', () => {
+        loadNotificationsRef.current();
+      });
+
+      eventSource.onerror = () => {
+        // 티켓은 한 번만 쓸 수 있어 브라우저 자동 재연결은 실패하므로, 닫고 새 티켓으로 다시 연결
+        source.close();
+        scheduleReconnect();
+      };
+    };
+
+    connect();
+
+    return () => {
+      closed = true;
+      clearTimeout(retryTimer);
+      eventSource?.close();
+    };
+  }, [user?.userId]);
+
   // 읽음 처리
   const markAsRead = async (notificationId) => {
     if (!user?.userId) return;
@@ -137,6 +256,7 @@ export const NotificationProvider = ({ children }) => {
     try {
       await notificationAPI.clearAllNotifications(user.userId);
       setNotifications([]);
+      setNextCursor(null);
       setUnreadCount(0);
     } catch (error) {
       console.error('모든 알림 삭제 실패:', error);
@@ -157,10 +277,7 @@ export const NotificationProvider = ({ children }) => {
       };
 
       const newNotification = await notificationAPI.createNotification(user.userId, notificationData);
-      const transformedNotification = transformNotification(newNotification);
-      
-      setNotifications(prev => [transformedNotification, ...prev]);
-      setUnreadCount(prev => prev + 1);
+      addNotification(transformNotification(newNotification));
     } catch (error) {
       console.error('테스트 알림 생성 실패:', error);
       handleApiError(error);
@@ -183,6 +300,9 @@ export const NotificationProvider = ({ children }) => {
     notifications,
     unreadCount,
     loading,
+    hasMore: nextCursor !== null,
+    loadingMore,
+    loadMoreNotifications,
     markAsRead,
     markAllAsRead,
     deleteNotification,
@@ -6,6 +6,9 @@ SET NAMES utf8mb4;
 SET CHARACTER SET utf8mb4;
 
 -- 기존 테이블 삭제 (개발 환경에서만 사용, 프로덕션에서는 주석 처리)
+-- DROP TABLE IF EXISTS outbox;
+-- DROP TABLE IF EXISTS alert_dead_letters;
+-- DROP TABLE IF EXISTS alert_schedule;
 -- DROP TABLE IF EXISTS alert_statuses;
 -- DROP TABLE IF EXISTS notifications;
 -- DROP TABLE IF EXISTS subscriptions;
@@ -64,11 +67,13 @@ CREATE TABLE IF NOT EXISTS notifications (
     updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
     FOREIGN KEY (subscription_id) REFERENCES subscriptions(subscription_id) ON DELETE CASCADE,
-    INDEX idx_notifications_user_id (user_id),
+    INDEX idx_notifications_user_created (user_id, created_at),
+    INDEX idx_notifications_user_read_created (user_id, is_read, created_at),
     INDEX idx_notifications_is_read (is_read),
     INDEX idx_notifications_created_at (created_at),
     INDEX idx_notifications_type (type),
-    INDEX idx_notifications_priority (priority)
+    INDEX idx_notifications_priority (priority),
+    INDEX idx_notifications_read_at (is_read, read_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- 4. alert_statuses 테이블 생성
@@ -87,7 +92,44 @@ CREATE TABLE IF NOT EXISTS alert_statuses (
     UNIQUE KEY uk_alert_statuses (subscription_id, alert_date, alert_type)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
--- 5. 샘플 데이터 삽입 (개발/테스트 환경용)
+-- 5. alert_schedule 테이블 생성 (알림 발송 예정 인덱스)
+CREATE TABLE IF NOT EXISTS alert_schedule (
+    fire_date DATE NOT NULL,
+    alert_type VARCHAR(20) NOT NULL CHECK (alert_type IN ('D_7', 'D_3', 'D_1', 'D_DAY')),
+    subscription_id BIGINT NOT NULL,
+    PRIMARY KEY (fire_date, alert_type, subscription_id),
+    FOREIGN KEY (subscription_id) REFERENCES subscriptions(subscription_id) ON DELETE CASCADE,
+    INDEX idx_alert_schedule_subscription_id (subscription_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 6. alert_dead_letters 테이블 생성 (재시도 소진 알림)
+CREATE TABLE IF NOT EXISTS alert_dead_letters (
+    dead_letter_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    subscription_id BIGINT NOT NULL,
+    user_email VARCHAR(255) NOT NULL,
+    service_name VARCHAR(255),
+    alert_type VARCHAR(20) NOT NULL CHECK (alert_type IN ('D_7', 'D_3', 'D_1', 'D_DAY')),
+    alert_date DATE NOT NULL,
+    exception_class VARCHAR(255),
+    failure_reason VARCHAR(1000),
+    original_topic VARCHAR(255),
+    failed_at DATETIME(6) NOT NULL,
+    replayed_at DATETIME(6),
+    INDEX idx_alert_dead_letters_replayed_at (replayed_at, dead_letter_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 7. outbox 테이블 생성 (트랜잭션 아웃박스)
+CREATE TABLE IF NOT EXISTS outbox (
+    outbox_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    message_key VARCHAR(100),
+    payload TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    published_at DATETIME(6),
+    INDEX idx_outbox_published_at (published_at, outbox_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 8. 샘플 데이터 삽입 (개발/테스트 환경용)
 -- 프로덕션에서는 주석 처리하거나 제거하세요
 
 -- 테스트 사용자 생성
@@ -148,6 +190,9 @@ OPTIMIZE TABLE users;
 OPTIMIZE TABLE subscriptions;
 OPTIMIZE TABLE notifications;
 OPTIMIZE TABLE alert_statuses;
+OPTIMIZE TABLE alert_schedule;
+OPTIMIZE TABLE alert_dead_letters;
+OPTIMIZE TABLE outbox;
 
 -- 권한 설정 (필요시)
 -- GRANT SELECT, INSERT, UPDATE, DELETE ON nextbill_prod.* TO 'nextbill_user'@'%';
@@ -0,0 +1,61 @@
+package suminjn.nextbill.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import suminjn.nextbill.domain.enums.AlertType;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * 기존 JSON 문자열 경로(writeValueAsString → StringSerializer)와 바이너리 코덱 비교
+ * ./gradlew jmh 로 실행한다.
+ */
+@State(Scope.Benchmark)
+public class AlertEventCodecBenchmark {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private SubscriptionAlertEvent event;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        event = SubscriptionAlertEvent.builder()
+                .subscriptionId(1_234_567L)
+                .userEmail("user1234@nextbill.com")
+                .serviceName("넷플릭스 프리미엄")
+                .alertType(AlertType.D_3)
+                .alertTypeDisplay(AlertType.D_3.getDisplayName())
+                .alertDate(LocalDate.of(2025, 7, 15))
+                .build();
+        jsonBytes = objectMapper.writeValueAsString(event).getBytes(StandardCharsets.UTF_8);
+        binaryBytes = AlertEventCodec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws Exception {
+        return objectMapper.writeValueAsString(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public SubscriptionAlertEvent jsonDecode() throws Exception {
+        return objectMapper.readValue(new String(jsonBytes, StandardCharsets.UTF_8), SubscriptionAlertEvent.class);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return AlertEventCodec.encode(event);
+    }
+
+    @Benchmark
+    public SubscriptionAlertEvent binaryDecode() {
+        return AlertEventCodec.decode(binaryBytes);
+    }
+}
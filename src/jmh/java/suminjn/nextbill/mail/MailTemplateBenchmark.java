@@ -0,0 +1,45 @@
+package suminjn.nextbill.mail;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 기존 String.format 본문 생성과 컴파일된 템플릿 렌더링 비교
+ * ./gradlew jmh 로 실행한다.
+ */
+@State(Scope.Benchmark)
+public class MailTemplateBenchmark {
+
+    private MailTemplateEngine engine;
+
+    private final String serviceName = "넷플릭스 프리미엄";
+    private final LocalDate alertDate = LocalDate.of(2025, 7, 15);
+    private final String alertTypeDisplay = "D-3";
+
+    @Setup
+    public void setUp() {
+        engine = new MailTemplateEngine(null, 64);
+    }
+
+    // 기존 EmailService.buildMessage
+    @Benchmark
+    public String legacyAlertFormat() {
+        return String.format("안녕하세요.\n\n다음 구독 결제가 예정되어 있습니다:\n\n서비스명: %s\n결제 예정일: %s (%s)\n\n감사합니다.\n- NextBill",
+                serviceName, alertDate, alertTypeDisplay);
+    }
+
+    @Benchmark
+    public MailContent templateAlert() {
+        Map<String, Object> model = new HashMap<>();
+        model.put("serviceName", serviceName);
+        model.put("alertDate", alertDate);
+        model.put("alertTypeDisplay", alertTypeDisplay);
+        return engine.render("alert", "noreply@nextbill.com", "user@nextbill.com", model);
+    }
+}
@@ -0,0 +1,40 @@
+package suminjn.nextbill.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import suminjn.nextbill.service.AlertDedupStore;
+import suminjn.nextbill.service.AlertStatusService;
+import suminjn.nextbill.service.CachingAlertDedupStore;
+import suminjn.nextbill.service.RedisBitmapDedupStore;
+import suminjn.nextbill.service.RedisService;
+
+/**
+ * 알림 중복 방지 저장소 구성
+ * app.alert.dedup.backend로 Redis 저장 방식을 고르고, local-cache가 켜져 있으면 프로세스 내 캐시로 감싼다.
+ */
+@Configuration
+public class AlertDedupConfig {
+
+    @Value("${app.alert.dedup.local-cache.enabled:false}")
+    private boolean localCacheEnabled;
+
+    @Value("${app.alert.dedup.local-cache.lru-size:100000}")
+    private int lruSize;
+
+    @Bean
+    @Primary
+    public AlertDedupStore alertDedupStore(RedisService redisService,
+                                           ObjectProvider<RedisBitmapDedupStore> bitmapDedupStore,
+                                           AlertStatusService alertStatusService,
+                                           MeterRegistry meterRegistry) {
+        AlertDedupStore backend = bitmapDedupStore.getIfAvailable(() -> redisService);
+        if (!localCacheEnabled) {
+            return backend;
+        }
+        return new CachingAlertDedupStore(backend, alertStatusService, lruSize, meterRegistry);
+    }
+}
@@ -0,0 +1,38 @@
+package suminjn.nextbill.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 실행기 설정
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    @Value("${app.outbox.relay-threads:2}")
+    private int relayThreads;
+
+    /**
+     * 커밋 직후 아웃박스 릴레이를 깨우는 실행기
+     * 대기열은 한 칸만 두고 넘치는 요청은 버린다. 대기 중인 릴레이가 이미 새 행까지 가져가므로
+     * 커밋이 몰려도 릴레이 실행은 스레드 수 + 1개로 합쳐진다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor outboxRelayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(relayThreads);
+        executor.setMaxPoolSize(relayThreads);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("outbox-relay-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
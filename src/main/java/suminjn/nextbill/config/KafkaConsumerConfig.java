@@ -8,6 +8,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.kafka.AlertEventDeserializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -29,12 +32,25 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.auto-offset-reset:latest}")
     private String autoOffsetReset;
 
+    @Value("${app.alert.consumer.max-poll-records:200}")
+    private int batchMaxPollRecords;
+
     /**
      * Kafka Consumer Factory 설정
      * application.yml의 설정값을 사용하여 동적으로 구성
      */
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
+    public ConsumerFactory<String, SubscriptionAlertEvent> consumerFactory() {
+        return createConsumerFactory(consumerConfig());
+    }
+
+    // 값은 content-type 헤더에 따라 json/binary로 읽고, 실패한 레코드는 null 값으로 넘겨 파티션이 막히지 않게 한다
+    private ConsumerFactory<String, SubscriptionAlertEvent> createConsumerFactory(Map<String, Object> config) {
+        return new DefaultKafkaConsumerFactory<>(config,
+                new StringDeserializer(), new ErrorHandlingDeserializer<>(new AlertEventDeserializer()));
+    }
+
+    private Map<String, Object> consumerConfig() {
         Map<String, Object> config = new HashMap<>();
         
         // application.yml에서 주입받은 값 사용
@@ -42,15 +58,11 @@ public class KafkaConsumerConfig {
         config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
         
-        // 직렬화/역직렬화 설정
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        
         // 성능 최적화 설정
         config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
         config.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, 1000);
         
-        return new DefaultKafkaConsumerFactory<>(config);
+        return config;
     }
 
     /**
@@ -58,8 +70,8 @@ public class KafkaConsumerConfig {
      * @KafkaListener 어노테이션이 붙은 메서드들이 사용할 컨테이너 팩토리
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, SubscriptionAlertEvent> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, SubscriptionAlertEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         
@@ -68,4 +80,22 @@ public class KafkaConsumerConfig {
         
         return factory;
     }
+
+    /**
+     * 배치 리스너용 컨테이너 팩토리
+     * 한 번의 poll로 받은 레코드(max-poll-records)를 List로 전달한다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, SubscriptionAlertEvent> batchKafkaListenerContainerFactory() {
+        Map<String, Object> config = consumerConfig();
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxPollRecords);
+
+        ConcurrentKafkaListenerContainerFactory<String, SubscriptionAlertEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(createConsumerFactory(config));
+        factory.setBatchListener(true);
+        factory.setConcurrency(1);
+
+        return factory;
+    }
 }
@@ -8,6 +8,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.kafka.AlertEventSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -29,12 +31,16 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.producer.acks:all}")
     private String acks;
 
+    // 알림 이벤트 직렬화 포맷 (json|binary)
+    @Value("${app.kafka.alert-wire-format:json}")
+    private String alertWireFormat;
+
     /**
      * Kafka Producer Factory 설정
      * application.yml의 설정값을 사용하여 동적으로 구성
      */
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
+    public ProducerFactory<String, SubscriptionAlertEvent> producerFactory() {
         Map<String, Object> config = new HashMap<>();
         
         // application.yml에서 주입받은 값 사용
@@ -42,10 +48,6 @@ public class KafkaProducerConfig {
         config.put(ProducerConfig.RETRIES_CONFIG, retries);
         config.put(ProducerConfig.ACKS_CONFIG, acks);
         
-        // 직렬화 설정
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        
         // 성능 최적화 설정
         config.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384);
         config.put(ProducerConfig.LINGER_MS_CONFIG, 5);
@@ -55,7 +57,9 @@ public class KafkaProducerConfig {
         config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
         
-        return new DefaultKafkaProducerFactory<>(config);
+        // 직렬화 설정 (값은 content-type 헤더와 함께 json 또는 binary로 기록)
+        return new DefaultKafkaProducerFactory<>(config,
+                new StringSerializer(), new AlertEventSerializer(alertWireFormat));
     }
 
     /**
@@ -63,7 +67,7 @@ public class KafkaProducerConfig {
      * 메시지 전송을 위한 KafkaTemplate
      */
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
+    public KafkaTemplate<String, SubscriptionAlertEvent> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
 }
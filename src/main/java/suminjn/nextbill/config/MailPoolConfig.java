@@ -0,0 +1,61 @@
+package suminjn.nextbill.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import suminjn.nextbill.mail.PooledMailSender;
+import suminjn.nextbill.mail.SmtpRateLimiter;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * SMTP 연결 풀 + 발송 속도 제한 설정
+ * 접속 정보(spring.mail.*)는 자동 구성된 JavaMailSenderImpl에서 가져온다.
+ */
+@Configuration
+public class MailPoolConfig {
+
+    @Value("${app.mail.pool.size:4}")
+    private int poolSize;
+
+    @Value("${app.mail.pool.max-messages-per-connection:100}")
+    private int maxMessagesPerConnection;
+
+    @Value("${app.mail.pool.max-idle-ms:60000}")
+    private long maxIdleMs;
+
+    @Value("${app.mail.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${app.mail.rate-limit.permits-per-second:2}")
+    private double permitsPerSecond;
+
+    @Value("${app.mail.rate-limit.burst:10}")
+    private int burst;
+
+    @Value("${app.mail.rate-limit.daily-limit:2000}")
+    private long dailyLimit;
+
+    @Value("${app.mail.rate-limit.max-wait-ms:30000}")
+    private long maxWaitMs;
+
+    @Value("${app.mail.rate-limit.throttle-cooldown-ms:60000}")
+    private long throttleCooldownMs;
+
+    @Bean
+    public SmtpRateLimiter smtpRateLimiter() {
+        if (!rateLimitEnabled) {
+            return SmtpRateLimiter.unlimited(poolSize);
+        }
+        return new SmtpRateLimiter(permitsPerSecond, burst, dailyLimit, poolSize,
+                Duration.ofMillis(maxWaitMs), Duration.ofMillis(throttleCooldownMs), ZoneId.systemDefault());
+    }
+
+    @Bean
+    public PooledMailSender pooledMailSender(JavaMailSenderImpl mailSender, SmtpRateLimiter smtpRateLimiter) {
+        return new PooledMailSender(mailSender, poolSize, maxMessagesPerConnection, Duration.ofMillis(maxIdleMs),
+                smtpRateLimiter);
+    }
+}
@@ -0,0 +1,38 @@
+package suminjn.nextbill.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import suminjn.nextbill.mail.MailTemplateEngine;
+
+import java.nio.file.Path;
+
+/**
+ * 메일 템플릿 엔진 설정
+ * app.mail.templates.location을 지정하면 그 디렉터리의 템플릿이 classpath 템플릿을 대체하고 주기적으로 다시 읽힌다.
+ */
+@Configuration
+public class MailTemplateConfig {
+
+    @Value("${app.mail.templates.location:}")
+    private String location;
+
+    @Value("${app.mail.templates.buffer-pool-size:64}")
+    private int bufferPoolSize;
+
+    private MailTemplateEngine engine;
+
+    @Bean
+    public MailTemplateEngine mailTemplateEngine() {
+        engine = new MailTemplateEngine(location.isBlank() ? null : Path.of(location), bufferPoolSize);
+        return engine;
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.templates.reload-interval-ms:10000}")
+    public void reloadTemplates() {
+        if (engine != null) {
+            engine.reloadIfChanged();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package suminjn.nextbill.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import suminjn.nextbill.service.NotificationStreamService;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 실시간 알림 Redis pub/sub 구독 설정
+ * 노드마다 채널 하나만 구독하고, 받은 메시지는 NotificationStreamService가 로컬 SSE 연결로 전달한다.
+ */
+@Configuration
+public class NotificationStreamConfig {
+
+    @Bean
+    public RedisMessageListenerContainer notificationStreamListenerContainer(
+            RedisConnectionFactory connectionFactory, NotificationStreamService notificationStreamService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> notificationStreamService.deliver(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(NotificationStreamService.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,60 @@
+package suminjn.nextbill.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import suminjn.nextbill.dto.AlertDeadLetterResponseDto;
+import suminjn.nextbill.exception.EntityNotFoundException;
+import suminjn.nextbill.service.AlertDeadLetterService;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DLT 알림 조회·재처리 (운영자 전용, /actuator/alertdeadletters)
+ * Actuator 보안 체인의 운영자 계정 인증을 거쳐야 하므로 일반 사용자 API에는 두지 않는다.
+ */
+@Component
+@Endpoint(id = "alertdeadletters")
+@RequiredArgsConstructor
+@Slf4j
+public class AlertDeadLetterEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final AlertDeadLetterService alertDeadLetterService;
+
+    // 재처리되지 않은 DLT 알림 조회 (GET /actuator/alertdeadletters?limit=)
+    @ReadOperation
+    public List<AlertDeadLetterResponseDto> pending(@Nullable Integer limit) {
+        return alertDeadLetterService.getPending(limit != null ? limit : DEFAULT_LIMIT);
+    }
+
+    // 재처리되지 않은 DLT 알림 일괄 재처리 (POST /actuator/alertdeadletters?limit=)
+    @WriteOperation
+    public Map<String, Integer> replayPending(@Nullable Integer limit) {
+        int max = limit != null ? limit : DEFAULT_LIMIT;
+        log.info("DLT 알림 일괄 재처리 요청 - 최대 {}건", max);
+        return Map.of("replayed", alertDeadLetterService.replayPending(max));
+    }
+
+    // DLT 알림 한 건 재처리 (POST /actuator/alertdeadletters/{deadLetterId})
+    @WriteOperation
+    public WebEndpointResponse<Map<String, String>> replay(@Selector Long deadLetterId) {
+        log.info("DLT 알림 재처리 요청 - ID: {}", deadLetterId);
+        try {
+            alertDeadLetterService.replay(deadLetterId);
+            return new WebEndpointResponse<>(Map.of("message", "재처리되었습니다."));
+        } catch (EntityNotFoundException e) {
+            return new WebEndpointResponse<>(Map.of("message", e.getMessage()), WebEndpointResponse.STATUS_NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(Map.of("message", e.getMessage()), WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package suminjn.nextbill.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import suminjn.nextbill.dto.NotificationFeedResponseDto;
+import suminjn.nextbill.dto.NotificationIdsRequestDto;
 import suminjn.nextbill.dto.NotificationRequestDto;
 import suminjn.nextbill.dto.NotificationResponseDto;
 import suminjn.nextbill.service.NotificationService;
+import suminjn.nextbill.service.NotificationStreamService;
 
 import java.util.List;
 import java.util.Map;
@@ -18,6 +27,7 @@ import java.util.Map;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
 
     // 사용자별 알림 조회
     @GetMapping("/user/{userId}")
@@ -27,6 +37,33 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    // 사용자별 알림 피드 조회 (커서 기반 페이지네이션)
+    @GetMapping("/user/{userId}/feed")
+    public ResponseEntity<NotificationFeedResponseDto> getNotificationFeed(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+
+        NotificationFeedResponseDto feed = notificationService.getNotificationFeed(userId, cursor, size, unreadOnly);
+        return ResponseEntity.ok(feed);
+    }
+
+    // 실시간 알림 스트림 연결용 일회용 티켓 발급 (로그인 사용자 기준)
+    @PostMapping("/stream/ticket")
+    public ResponseEntity<Map<String, String>> issueStreamTicket(@AuthenticationPrincipal UserDetails principal) {
+        String ticket = notificationStreamService.issueTicket(principal.getUsername());
+        return ResponseEntity.ok(Map.of("ticket", ticket));
+    }
+
+    // 실시간 알림 스트림 (SSE, 발급받은 티켓으로 연결)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam String ticket, HttpServletResponse response) {
+        // nginx 프록시가 이벤트를 버퍼링하지 않고 바로 흘려보내도록 지정
+        response.setHeader("X-Accel-Buffering", "no");
+        return notificationStreamService.connect(ticket);
+    }
+
     // 읽지 않은 알림 개수 조회
     @GetMapping("/user/{userId}/unread-count")
     public ResponseEntity<Map<String, Long>> getUnreadCount(@PathVariable Long userId) {
@@ -53,6 +90,17 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    // 지정한 알림 일괄 읽음 처리
+    @PutMapping("/user/{userId}/bulk-read")
+    public ResponseEntity<Map<String, Integer>> markAsReadBulk(
+            @PathVariable Long userId,
+            @Valid @RequestBody NotificationIdsRequestDto request) {
+
+        log.info("알림 일괄 읽음 처리 - 사용자 ID: {}, 요청 {}건", userId, request.getNotificationIds().size());
+        int updated = notificationService.markNotificationsAsRead(userId, request.getNotificationIds());
+        return ResponseEntity.ok(Map.of("updated", updated));
+    }
+
     // 알림 삭제
     @DeleteMapping("/{notificationId}/user/{userId}")
     public ResponseEntity<Void> deleteNotification(
@@ -64,6 +112,17 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    // 지정한 알림 일괄 삭제
+    @PostMapping("/user/{userId}/bulk-delete")
+    public ResponseEntity<Map<String, Integer>> deleteNotificationsBulk(
+            @PathVariable Long userId,
+            @Valid @RequestBody NotificationIdsRequestDto request) {
+
+        log.info("알림 일괄 삭제 - 사용자 ID: {}, 요청 {}건", userId, request.getNotificationIds().size());
+        int deleted = notificationService.deleteNotifications(userId, request.getNotificationIds());
+        return ResponseEntity.ok(Map.of("deleted", deleted));
+    }
+
     // 모든 알림 삭제
     @DeleteMapping("/user/{userId}/clear-all")
     public ResponseEntity<Void> clearAllNotifications(@PathVariable Long userId) {
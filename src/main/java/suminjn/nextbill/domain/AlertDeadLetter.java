@@ -0,0 +1,61 @@
+package suminjn.nextbill.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import suminjn.nextbill.domain.enums.AlertType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 재시도를 모두 소진한 알림 (DLT 수신 기록)
+ * 실패 정보와 함께 보관하고 재처리(replay) 시 메인 토픽으로 다시 발행한다.
+ */
+@Entity
+@Table(name = "alert_dead_letters")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlertDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long deadLetterId;
+
+    @Column(nullable = false)
+    private Long subscriptionId;
+
+    @Column(nullable = false)
+    private String userEmail;
+
+    private String serviceName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AlertType alertType;
+
+    @Column(nullable = false)
+    private LocalDate alertDate;
+
+    // 실패 정보 (DLT 헤더)
+    private String exceptionClass;
+
+    @Column(length = 1000)
+    private String failureReason;
+
+    private String originalTopic;
+
+    @Column(nullable = false)
+    private LocalDateTime failedAt;
+
+    private LocalDateTime replayedAt;
+
+    // 재처리 완료
+    public void markReplayed() {
+        this.replayedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,27 @@
+package suminjn.nextbill.domain;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 발송 예정 인덱스
+ * 구독 변경 시점에 (발송일, 알림 타입, 구독 ID) 단위로 미리 기록해 두어
+ * 야간 알림 작업이 subscriptions 테이블 대신 이 테이블의 기본키 범위만 읽도록 한다.
+ * 일시정지되거나 삭제된 구독은 기록되지 않는다.
+ */
+@Entity
+@Table(name = "alert_schedule",
+        indexes = @Index(name = "idx_alert_schedule_subscription_id", columnList = "subscription_id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlertSchedule {
+
+    @EmbeddedId
+    private AlertScheduleId id;
+}
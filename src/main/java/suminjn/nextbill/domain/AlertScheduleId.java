@@ -0,0 +1,32 @@
+package suminjn.nextbill.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import suminjn.nextbill.domain.enums.AlertType;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AlertScheduleId implements Serializable {
+
+    @Column(name = "fire_date", nullable = false)
+    private LocalDate fireDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "alert_type", nullable = false, length = 20)
+    private AlertType alertType;
+
+    @Column(name = "subscription_id", nullable = false)
+    private Long subscriptionId;
+}
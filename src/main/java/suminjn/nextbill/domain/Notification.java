@@ -11,7 +11,12 @@ import suminjn.nextbill.domain.enums.NotificationType;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications",
+        indexes = {
+                @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"),
+                @Index(name = "idx_notifications_user_read_created", columnList = "user_id, is_read, created_at"),
+                @Index(name = "idx_notifications_read_at", columnList = "is_read, read_at")
+        })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,43 @@
+package suminjn.nextbill.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 메시지
+ * 도메인 변경과 같은 트랜잭션에서 기록하고, OutboxRelay가 커밋된 행을 Kafka로 발행한 뒤 published_at을 채운다.
+ * 쓰기·조회는 JDBC 배치로 처리하며, 엔티티는 스키마 정의용이다.
+ */
+@Entity
+@Table(name = "outbox",
+        indexes = @Index(name = "idx_outbox_published_at", columnList = "published_at, outbox_id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    @Column(length = 100)
+    private String messageKey;
+
+    // SubscriptionAlertEvent JSON
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+}
@@ -1,18 +1,24 @@
 package suminjn.nextbill.domain.enums;
 
 public enum AlertType {
-    D_7("D-7"),
-    D_3("D-3"),
-    D_1("D-1"),
-    D_DAY("D-Day");
+    D_7("D-7", 7),
+    D_3("D-3", 3),
+    D_1("D-1", 1),
+    D_DAY("D-Day", 0);
 
     private final String displayName;
+    private final int daysBefore; // 결제일 기준 며칠 전에 발송하는지
 
-    AlertType(String displayName) {
+    AlertType(String displayName, int daysBefore) {
         this.displayName = displayName;
+        this.daysBefore = daysBefore;
     }
 
     public String getDisplayName() {
         return displayName;
     }
-}
\ No newline at end of file
+
+    public int getDaysBefore() {
+        return daysBefore;
+    }
+}
@@ -0,0 +1,45 @@
+package suminjn.nextbill.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import suminjn.nextbill.domain.AlertDeadLetter;
+import suminjn.nextbill.domain.enums.AlertType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlertDeadLetterResponseDto {
+    private Long id;
+    private Long subscriptionId;
+    private String userEmail;
+    private String serviceName;
+    private AlertType alertType;
+    private LocalDate alertDate;
+    private String exceptionClass;
+    private String failureReason;
+    private String originalTopic;
+    private LocalDateTime failedAt;
+    private LocalDateTime replayedAt;
+
+    public static AlertDeadLetterResponseDto from(AlertDeadLetter deadLetter) {
+        return AlertDeadLetterResponseDto.builder()
+                .id(deadLetter.getDeadLetterId())
+                .subscriptionId(deadLetter.getSubscriptionId())
+                .userEmail(deadLetter.getUserEmail())
+                .serviceName(deadLetter.getServiceName())
+                .alertType(deadLetter.getAlertType())
+                .alertDate(deadLetter.getAlertDate())
+                .exceptionClass(deadLetter.getExceptionClass())
+                .failureReason(deadLetter.getFailureReason())
+                .originalTopic(deadLetter.getOriginalTopic())
+                .failedAt(deadLetter.getFailedAt())
+                .replayedAt(deadLetter.getReplayedAt())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package suminjn.nextbill.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자·일자별로 모은 알림 묶음 (메일 한 통으로 발송)
+ */
+@Getter
+@AllArgsConstructor
+public class AlertDigest {
+
+    private String userEmail;
+    private LocalDate digestDate;
+    private List<SubscriptionAlertEvent> events;
+}
@@ -0,0 +1,25 @@
+package suminjn.nextbill.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 알림 이벤트 일괄 전송 결과 (브로커 ack 기준)
+ */
+@Getter
+@AllArgsConstructor
+public class AlertSendResult {
+
+    private int succeeded;
+    private List<SubscriptionAlertEvent> failed; // 재시도 대상
+
+    public int getFailedCount() {
+        return failed.size();
+    }
+
+    public boolean hasFailures() {
+        return !failed.isEmpty();
+    }
+}
@@ -0,0 +1,42 @@
+package suminjn.nextbill.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 알림 피드 커서 (created_at, notification_id)
+ * 클라이언트에는 base64url 문자열로만 노출하고, 해석은 서버에서만 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationCursor {
+
+    private LocalDateTime createdAt;
+    private Long notificationId;
+
+    public String encode() {
+        String raw = createdAt + "|" + notificationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NotificationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new NotificationCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public static NotificationCursor of(NotificationResponseDto notification) {
+        return new NotificationCursor(notification.getCreatedAt(), notification.getId());
+    }
+}
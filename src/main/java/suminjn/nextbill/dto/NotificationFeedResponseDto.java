@@ -0,0 +1,19 @@
+package suminjn.nextbill.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 알림 피드 한 페이지
+ * nextCursor를 그대로 다음 요청의 cursor로 넘기면 이어서 조회한다. 마지막 페이지면 null.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationFeedResponseDto {
+
+    private List<NotificationResponseDto> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,19 @@
+package suminjn.nextbill.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationIdsRequestDto {
+
+    @NotEmpty(message = "알림 ID 목록은 비어 있을 수 없습니다")
+    @Size(max = 1000, message = "알림 ID는 한 번에 1000개까지 처리할 수 있습니다")
+    private List<Long> notificationIds;
+}
@@ -0,0 +1,31 @@
+package suminjn.nextbill.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * SSE로 사용자에게 밀어 주는 알림 변경 (Redis pub/sub으로 모든 노드에 전달)
+ * notification: 새 알림 한 건, refresh: 배치로 여러 건이 생겨 첫 페이지를 다시 읽어야 함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationStreamEvent {
+
+    public static final String NOTIFICATION = "notification";
+    public static final String REFRESH = "refresh";
+
+    private Long userId;
+    private String type;
+    private NotificationResponseDto notification;
+    private long unreadDelta;
+
+    public static NotificationStreamEvent created(Long userId, NotificationResponseDto notification) {
+        return new NotificationStreamEvent(userId, NOTIFICATION, notification, 1);
+    }
+
+    public static NotificationStreamEvent refresh(Long userId, long unreadDelta) {
+        return new NotificationStreamEvent(userId, REFRESH, null, unreadDelta);
+    }
+}
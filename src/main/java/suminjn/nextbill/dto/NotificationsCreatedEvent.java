@@ -0,0 +1,16 @@
+package suminjn.nextbill.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 알림이 생성되었음을 알리는 애플리케이션 이벤트 (커밋 후 SSE 구독자에게 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationsCreatedEvent {
+
+    private List<NotificationStreamEvent> events;
+}
@@ -0,0 +1,14 @@
+package suminjn.nextbill.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * outbox에 행이 기록되었음을 알리는 애플리케이션 이벤트 (커밋 후 릴레이를 바로 깨우는 용도)
+ */
+@Getter
+@AllArgsConstructor
+public class OutboxAppendedEvent {
+
+    private int count;
+}
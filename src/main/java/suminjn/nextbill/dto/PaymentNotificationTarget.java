@@ -0,0 +1,27 @@
+package suminjn.nextbill.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 결제일 기반 알림 생성 전용 경량 프로젝션
+ * 알림 행 삽입과 이메일 설정 판별에 필요한 구독·사용자 컬럼만 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentNotificationTarget {
+
+    private Long subscriptionId;
+    private Long userId;
+    private String serviceName;
+    private LocalDate nextPaymentDate;
+    private String userEmail;
+
+    // 사용자 이메일 알림 설정
+    private Boolean isEmailAlertEnabled;
+    private Boolean emailAlert7Days;
+    private Boolean emailAlert3Days;
+    private Boolean emailAlert1Day;
+}
@@ -23,4 +23,9 @@ public class SubscriptionAlertEvent {
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private LocalDate alertDate;
+
+    // 중복 발송 판별 키 (구독 ID + 알림 타입 + 결제일)
+    public String dedupKey() {
+        return subscriptionId + ":" + alertType.name() + ":" + alertDate;
+    }
 }
@@ -0,0 +1,27 @@
+package suminjn.nextbill.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 알림 스케줄러 전용 경량 프로젝션
+ * 엔티티 대신 알림 발송에 필요한 컬럼만 조회하여 영속성 컨텍스트에 적재되지 않도록 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class SubscriptionAlertTarget {
+
+    private Long subscriptionId;
+    private String serviceName;
+    private LocalDate nextPaymentDate;
+    private String userEmail;
+
+    // 사용자 이메일 알림 설정
+    private Boolean isEmailAlertEnabled;
+    private Boolean emailAlert7Days;
+    private Boolean emailAlert3Days;
+    private Boolean emailAlert1Day;
+    private Boolean emailAlertDDay;
+}
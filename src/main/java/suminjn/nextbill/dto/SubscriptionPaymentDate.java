@@ -0,0 +1,17 @@
+package suminjn.nextbill.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 구독 ID와 다음 결제일만 담는 경량 프로젝션 (알림 스케줄 재구성용)
+ */
+@Getter
+@AllArgsConstructor
+public class SubscriptionPaymentDate {
+
+    private Long subscriptionId;
+    private LocalDate nextPaymentDate;
+}
@@ -0,0 +1,11 @@
+package suminjn.nextbill.exception;
+
+/**
+ * 다른 소비자가 발송 중인 알림을 받았을 때 발생
+ * 컨테이너 에러 핸들러가 claim TTL이 지날 때까지 재시도한다.
+ */
+public class AlertClaimConflictException extends RuntimeException {
+    public AlertClaimConflictException(String message) {
+        super(message);
+    }
+}
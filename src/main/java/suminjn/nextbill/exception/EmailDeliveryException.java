@@ -0,0 +1,11 @@
+package suminjn.nextbill.exception;
+
+/**
+ * 알림 이메일 발송 실패 (SMTP 오류 등)
+ * 알림 소비자가 재시도 토픽으로 넘겨 다시 발송한다.
+ */
+public class EmailDeliveryException extends RuntimeException {
+    public EmailDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
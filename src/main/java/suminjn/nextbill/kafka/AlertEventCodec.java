@@ -0,0 +1,179 @@
+package suminjn.nextbill.kafka;
+
+import suminjn.nextbill.domain.enums.AlertType;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * SubscriptionAlertEvent 바이너리 코덱 (v1)
+ *
+ * [version:1byte][subscriptionId:varint][userEmail][serviceName][alertType:1byte][alertDate:varint]
+ * - nullable 값은 0을 null로 쓰고 실제 값은 +1 해서 기록한다.
+ * - 문자열은 (UTF-8 길이 + 1) varint 뒤에 바이트를 이어 붙인다.
+ * - alertType은 ordinal, alertDate는 epoch-day(zigzag)로 기록한다.
+ * - alertTypeDisplay는 alertType에서 다시 계산하므로 기록하지 않는다.
+ *
+ * AlertType은 ordinal로 기록되므로 상수는 뒤에 추가만 하고 순서를 바꾸지 않는다.
+ * 포맷을 바꿀 때는 VERSION을 올리고 이전 버전 디코딩을 유지한다.
+ */
+public final class AlertEventCodec {
+
+    public static final byte VERSION = 1;
+
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+    public static final String BINARY_CONTENT_TYPE = "application/vnd.nextbill.alert.v1+binary";
+    public static final String JSON_CONTENT_TYPE = "application/json";
+
+    private static final AlertType[] ALERT_TYPES = AlertType.values();
+
+    // version + subscriptionId + 문자열 길이 2개 + alertType + alertDate 의 최대 크기
+    private static final int FIXED_MAX_SIZE = 1 + 10 + 5 + 5 + 1 + 10;
+
+    private AlertEventCodec() {
+    }
+
+    public static byte[] encode(SubscriptionAlertEvent event) {
+        byte[] email = utf8(event.getUserEmail());
+        byte[] serviceName = utf8(event.getServiceName());
+
+        Writer out = new Writer(FIXED_MAX_SIZE + length(email) + length(serviceName));
+        out.writeByte(VERSION);
+        out.writeVarLong(event.getSubscriptionId() == null ? 0 : event.getSubscriptionId() + 1);
+        out.writeBytes(email);
+        out.writeBytes(serviceName);
+        out.writeByte(event.getAlertType() == null ? 0 : event.getAlertType().ordinal() + 1);
+        out.writeVarLong(event.getAlertDate() == null ? 0 : zigzag(event.getAlertDate().toEpochDay()) + 1);
+        return out.toByteArray();
+    }
+
+    public static SubscriptionAlertEvent decode(byte[] data) {
+        Reader in = new Reader(data);
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 알림 이벤트 버전입니다: " + version);
+        }
+
+        long subscriptionId = in.readVarLong();
+        String email = in.readString();
+        String serviceName = in.readString();
+        int alertType = in.readByte();
+        long alertDate = in.readVarLong();
+
+        AlertType type = null;
+        if (alertType != 0) {
+            if (alertType > ALERT_TYPES.length) {
+                throw new IllegalArgumentException("알 수 없는 알림 타입입니다: " + (alertType - 1));
+            }
+            type = ALERT_TYPES[alertType - 1];
+        }
+
+        return SubscriptionAlertEvent.builder()
+                .subscriptionId(subscriptionId == 0 ? null : subscriptionId - 1)
+                .userEmail(email)
+                .serviceName(serviceName)
+                .alertType(type)
+                .alertTypeDisplay(type == null ? null : type.getDisplayName())
+                .alertDate(alertDate == 0 ? null : LocalDate.ofEpochDay(unzigzag(alertDate - 1)))
+                .build();
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Writer {
+
+        private final byte[] buf;
+        private int pos;
+
+        Writer(int capacity) {
+            this.buf = new byte[capacity];
+        }
+
+        void writeByte(int value) {
+            buf[pos++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[pos++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            if (bytes == null) {
+                writeVarLong(0);
+                return;
+            }
+            writeVarLong(bytes.length + 1L);
+            System.arraycopy(bytes, 0, buf, pos, bytes.length);
+            pos += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, pos);
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buf;
+        private int pos;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        int readByte() {
+            require(1);
+            return buf[pos++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("varint 길이가 올바르지 않습니다.");
+        }
+
+        String readString() {
+            long length = readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            int size = Math.toIntExact(length - 1);
+            require(size);
+            String value = new String(buf, pos, size, StandardCharsets.UTF_8);
+            pos += size;
+            return value;
+        }
+
+        private void require(int size) {
+            if (size < 0 || pos + size > buf.length) {
+                throw new IllegalArgumentException("알림 이벤트 데이터가 잘렸습니다.");
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package suminjn.nextbill.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 알림 이벤트 역직렬화기
+ * content-type 헤더가 바이너리면 AlertEventCodec으로, 그 외(헤더가 없는 기존 메시지 포함)는 JSON으로 읽는다.
+ */
+public class AlertEventDeserializer implements Deserializer<SubscriptionAlertEvent> {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    @Override
+    public SubscriptionAlertEvent deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Header contentType = headers == null ? null : headers.lastHeader(AlertEventCodec.CONTENT_TYPE_HEADER);
+        if (contentType != null
+                && AlertEventCodec.BINARY_CONTENT_TYPE.equals(new String(contentType.value(), StandardCharsets.UTF_8))) {
+            try {
+                return AlertEventCodec.decode(data);
+            } catch (Exception e) {
+                throw new SerializationException("바이너리 알림 이벤트 역직렬화 실패", e);
+            }
+        }
+        return deserialize(topic, data);
+    }
+
+    @Override
+    public SubscriptionAlertEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(data, SubscriptionAlertEvent.class);
+        } catch (Exception e) {
+            throw new SerializationException("JSON 알림 이벤트 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package suminjn.nextbill.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 알림 이벤트 직렬화기
+ * 설정된 포맷(json|binary)으로 직렬화하고 content-type 헤더를 붙여
+ * 소비자가 두 포맷을 구분할 수 있게 한다.
+ */
+public class AlertEventSerializer implements Serializer<SubscriptionAlertEvent> {
+
+    public static final String FORMAT_JSON = "json";
+    public static final String FORMAT_BINARY = "binary";
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private final boolean binary;
+
+    public AlertEventSerializer(String format) {
+        if (!FORMAT_JSON.equals(format) && !FORMAT_BINARY.equals(format)) {
+            throw new IllegalArgumentException("지원하지 않는 알림 이벤트 포맷입니다: " + format);
+        }
+        this.binary = FORMAT_BINARY.equals(format);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, SubscriptionAlertEvent data) {
+        if (data == null) {
+            return null;
+        }
+        headers.remove(AlertEventCodec.CONTENT_TYPE_HEADER);
+        headers.add(AlertEventCodec.CONTENT_TYPE_HEADER, contentType().getBytes(StandardCharsets.UTF_8));
+        return serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, SubscriptionAlertEvent data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return binary ? AlertEventCodec.encode(data) : OBJECT_MAPPER.writeValueAsBytes(data);
+        } catch (Exception e) {
+            throw new SerializationException("알림 이벤트 직렬화 실패: " + data, e);
+        }
+    }
+
+    private String contentType() {
+        return binary ? AlertEventCodec.BINARY_CONTENT_TYPE : AlertEventCodec.JSON_CONTENT_TYPE;
+    }
+}
@@ -0,0 +1,57 @@
+package suminjn.nextbill.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import suminjn.nextbill.mail.SmtpRateLimiter;
+
+/**
+ * SMTP 발송 한도에 맞춰 알림 리스너 컨테이너를 멈추고 다시 시작한다.
+ *
+ * 발송 허가가 밀리면(cooldown, 일일 한도 소진, 대기열 적체) 알림 소비자·재시도 소비자를 pause해
+ * 남은 알림은 Kafka에 쌓아 두고, 토큰이 다시 생기면 resume한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertListenerThrottle {
+
+    // 이메일을 보내는 리스너 그룹 (nextbill-alert-consumer, nextbill-alert-retry 및 재시도 토픽 그룹)
+    private static final String ALERT_GROUP_PREFIX = "nextbill-alert";
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final SmtpRateLimiter smtpRateLimiter;
+
+    private boolean paused;
+
+    @Scheduled(fixedDelayString = "${app.mail.rate-limit.listener-check-ms:1000}")
+    public void adjust() {
+        boolean saturated = smtpRateLimiter.isSaturated();
+        if (saturated == paused) {
+            return;
+        }
+
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            String groupId = container.getGroupId();
+            if (groupId == null || !groupId.startsWith(ALERT_GROUP_PREFIX)) {
+                continue;
+            }
+            if (saturated) {
+                container.pause();
+            } else {
+                container.resume();
+            }
+        }
+        paused = saturated;
+
+        if (saturated) {
+            log.warn("⏸️ SMTP 발송 한도로 알림 리스너를 일시 정지합니다 (오늘 발송 {}건, 동시 발송 {})",
+                    smtpRateLimiter.getSentToday(), smtpRateLimiter.getConcurrencyLimit());
+        } else {
+            log.info("▶️ SMTP 발송 허가가 생겨 알림 리스너를 재개합니다");
+        }
+    }
+}
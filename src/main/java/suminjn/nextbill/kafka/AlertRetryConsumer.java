@@ -0,0 +1,62 @@
+package suminjn.nextbill.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.DltHandler;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.stereotype.Component;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.service.AlertDeadLetterService;
+import suminjn.nextbill.service.AlertDeliveryService;
+
+/**
+ * 발송 실패 알림 재시도 소비자
+ *
+ * 메인 소비자가 넘긴 subscription.alert.retry 를 즉시 한 번 재시도하고, 실패하면
+ * subscription.alert.retry-retry-0/1/2 (기본 1분 → 10분 → 1시간)로 넘기며 지연 재시도한다.
+ * 재시도 토픽은 메인 토픽과 분리되어 있어 느린 SMTP 서버가 신규 알림 처리를 막지 않는다.
+ * 모든 재시도가 실패하면 DLT(subscription.alert.retry-dlt)로 이동하고 실패 정보와 함께 DB에 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertRetryConsumer {
+
+    private final AlertDeliveryService alertDeliveryService;
+    private final AlertDeadLetterService alertDeadLetterService;
+
+    @RetryableTopic(
+            attempts = "${app.alert.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${app.alert.retry.initial-delay-ms:60000}",
+                    multiplierExpression = "${app.alert.retry.multiplier:10}",
+                    maxDelayExpression = "${app.alert.retry.max-delay-ms:3600000}"),
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            dltStrategy = DltStrategy.FAIL_ON_ERROR,
+            kafkaTemplate = "kafkaTemplate")
+    @KafkaListener(topics = SubscriptionAlertProducer.RETRY_TOPIC, groupId = "nextbill-alert-retry")
+    public void retry(ConsumerRecord<String, SubscriptionAlertEvent> record) {
+        SubscriptionAlertEvent event = record.value();
+        log.info("🔁 알림 재시도: {} (topic={})", event.dedupKey(), record.topic());
+        alertDeliveryService.deliver(event);
+    }
+
+    @DltHandler
+    public void deadLetter(ConsumerRecord<String, SubscriptionAlertEvent> record,
+                           @Header(name = KafkaHeaders.DLT_EXCEPTION_FQCN, required = false) String exceptionClass,
+                           @Header(name = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) String exceptionMessage,
+                           @Header(name = KafkaHeaders.DLT_ORIGINAL_TOPIC, required = false) String originalTopic) {
+        if (record.value() == null) {
+            log.error("❌ DLT 메시지 역직렬화 실패: partition={}, offset={}", record.partition(), record.offset());
+            return;
+        }
+        alertDeadLetterService.save(record.value(), exceptionClass, exceptionMessage, originalTopic);
+    }
+}
@@ -0,0 +1,126 @@
+package suminjn.nextbill.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import suminjn.nextbill.domain.OutboxMessage;
+import suminjn.nextbill.dto.OutboxAppendedEvent;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.service.OutboxService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * outbox의 미발행 행을 batch-size건씩 FOR UPDATE SKIP LOCKED로 잠가 Kafka로 한꺼번에 비동기 전송하고,
+ * ack를 받은 행만 발행 완료로 표시한다. 여러 인스턴스가 동시에 돌아도 서로 다른 행을 가져간다.
+ * 발행 후 커밋 전에 죽으면 같은 행이 다시 발행될 수 있으므로 (at-least-once) 소비자는 dedupKey로 중복을 거른다.
+ * 기록한 트랜잭션이 커밋되면 outboxRelayExecutor에서 바로 한 번 실행하고, 폴링은 놓친 행을 위한 안전망이다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxService outboxService;
+    private final KafkaTemplate<String, SubscriptionAlertEvent> kafkaTemplate;
+
+    @Value("${app.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${app.outbox.prune-chunk-size:5000}")
+    private int pruneChunkSize;
+
+    // 커밋 직후 호출자 스레드(DB 트랜잭션)와 분리해서 발행
+    @Async("outboxRelayExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppended(OutboxAppendedEvent event) {
+        relay();
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:5000}")
+    public void relay() {
+        try {
+            // 한 건이라도 발행에 실패하면 멈추고 남은 행은 다음 폴링에서 다시 시도한다
+            // (Kafka 장애 중 같은 행을 계속 다시 잠가 스케줄러·릴레이 스레드를 붙잡지 않도록)
+            long relayed = 0;
+            int published;
+            do {
+                published = outboxService.relayBatch(batchSize, this::publish);
+                relayed += published;
+            } while (published == batchSize);
+
+            if (relayed > 0) {
+                log.debug("📤 아웃박스 발행: {}건", relayed);
+            }
+        } catch (Exception e) {
+            log.error("❌ 아웃박스 발행 실패", e);
+        }
+    }
+
+    // 발행이 끝난 행 정리 (매시 30분)
+    @Scheduled(cron = "0 30 * * * *")
+    public void prune() {
+        try {
+            long pruned = outboxService.pruneDeliveredBefore(LocalDateTime.now().minusHours(retentionHours), pruneChunkSize);
+            if (pruned > 0) {
+                log.info("🧹 발행 완료 아웃박스 정리: {}건", pruned);
+            }
+        } catch (Exception e) {
+            log.error("❌ 아웃박스 정리 실패", e);
+        }
+    }
+
+    private Collection<Long> publish(List<OutboxMessage> batch) {
+        ConcurrentLinkedQueue<Long> published = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<?>> pending = new ArrayList<>(batch.size());
+
+        for (OutboxMessage message : batch) {
+            SubscriptionAlertEvent event;
+            try {
+                event = outboxService.readAlert(message);
+            } catch (IllegalArgumentException e) {
+                // 다시 시도해도 읽을 수 없으므로 발행 완료로 표시해 뒤의 행을 막지 않는다
+                log.error("❌ 아웃박스 메시지를 건너뜁니다: {}", message.getOutboxId(), e);
+                published.add(message.getOutboxId());
+                continue;
+            }
+
+            try {
+                pending.add(kafkaTemplate.send(message.getTopic(), message.getMessageKey(), event)
+                        .whenComplete((result, ex) -> {
+                            if (ex == null) {
+                                published.add(message.getOutboxId());
+                            }
+                        }));
+            } catch (Exception e) {
+                log.warn("⚠️ 아웃박스 메시지 전송 실패, 다음 주기에 다시 발행합니다: {} ({})", message.getOutboxId(), e.getMessage());
+            }
+        }
+
+        // 개별 실패는 published에서 빠지므로 완료 여부만 기다린다
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .exceptionally(ex -> null)
+                .join();
+
+        if (published.size() < batch.size()) {
+            log.warn("⚠️ 아웃박스 발행: 성공 {}건, 실패 {}건", published.size(), batch.size() - published.size());
+        }
+        return published;
+    }
+}
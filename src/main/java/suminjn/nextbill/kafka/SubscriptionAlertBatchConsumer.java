@@ -0,0 +1,124 @@
+package suminjn.nextbill.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.exception.AlertClaimConflictException;
+import suminjn.nextbill.service.AlertClaimRenewer;
+import suminjn.nextbill.service.AlertDedupStore;
+import suminjn.nextbill.service.AlertDedupStore.ClaimResult;
+import suminjn.nextbill.service.AlertDigestService;
+import suminjn.nextbill.service.AlertStatusService;
+import suminjn.nextbill.service.EmailService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 배치 모드 알림 소비자 (app.alert.consumer.batch-enabled=true)
+ *
+ * poll 한 번 분량의 레코드를 모아 Redis 선점 파이프라인 한 번, alert_statuses 튜플 IN 조회 한 번으로 중복을 거르고,
+ * 선점한 이메일을 SMTP 연결 풀(app.mail.pool.size)에 나눠 발송(다이제스트 모드에서는 사용자별 버퍼에 적재)한 뒤
+ * Redis 마킹은 파이프라인 한 번, 상태 저장은 JDBC 배치 한 번으로 처리한다.
+ * 발송 실패나 다른 소비자가 발송 중인 알림은 재시도 토픽으로 넘긴다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.alert.consumer.batch-enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SubscriptionAlertBatchConsumer {
+
+    private final EmailService emailService;
+    private final AlertDigestService alertDigestService;
+    private final AlertDedupStore alertDedupStore;
+    private final AlertClaimRenewer alertClaimRenewer;
+    private final AlertStatusService alertStatusService;
+    private final SubscriptionAlertProducer alertProducer;
+
+    @KafkaListener(topics = "subscription.alert.scheduled", groupId = "nextbill-alert-consumer",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void listen(List<ConsumerRecord<String, SubscriptionAlertEvent>> records) {
+        // 배치 내 중복 제거 (역직렬화 실패 레코드는 ErrorHandlingDeserializer가 null 값으로 넘긴다)
+        Map<String, SubscriptionAlertEvent> eventsByKey = new LinkedHashMap<>();
+        for (ConsumerRecord<String, SubscriptionAlertEvent> record : records) {
+            SubscriptionAlertEvent event = record.value();
+            if (event == null) {
+                log.error("❌ Kafka 메시지 역직렬화 실패: partition={}, offset={}", record.partition(), record.offset());
+                continue;
+            }
+            eventsByKey.putIfAbsent(event.dedupKey(), event);
+        }
+        List<SubscriptionAlertEvent> events = new ArrayList<>(eventsByKey.values());
+        if (events.isEmpty()) {
+            return;
+        }
+
+        // Redis 선점 (중복 확인 + claim, 파이프라인 한 번)
+        List<SubscriptionAlertEvent> claimed = new ArrayList<>();
+        Map<SubscriptionAlertEvent, Throwable> failures = new LinkedHashMap<>();
+        for (Map.Entry<SubscriptionAlertEvent, ClaimResult> entry : alertDedupStore.tryClaimAll(events).entrySet()) {
+            if (entry.getValue() == ClaimResult.CLAIMED) {
+                claimed.add(entry.getKey());
+            } else if (entry.getValue() == ClaimResult.IN_PROGRESS) {
+                // 선점한 소비자가 죽었다면 claim TTL 만료 후 재시도에서 선점된다
+                failures.put(entry.getKey(), new AlertClaimConflictException(
+                        "다른 소비자가 발송 중인 알림입니다: " + entry.getKey().dedupKey()));
+            }
+        }
+
+        // 속도 제한으로 발송이 claim TTL보다 길어져도 선점이 풀리지 않도록 끝날 때까지 연장
+        int delivered = 0;
+        AlertClaimRenewer.Lease lease = alertClaimRenewer.hold(claimed);
+        try {
+            // DB에서도 중복 체크 (Redis 미스 케이스 대비, 쿼리 한 번)
+            Set<SubscriptionAlertEvent> sentInDb = alertStatusService.findAlreadySent(claimed);
+            claimed.removeAll(sentInDb);
+            alertDedupStore.markAllAsSent(sentInDb);
+
+            // 이메일 일괄 발송 (SMTP 연결 풀에서 연결당 여러 건을 이어서 발송)
+            // 다이제스트 모드에서는 사용자별 버퍼에 모으기만 한다 (발송은 AlertDigestService가 묶어서)
+            Map<SubscriptionAlertEvent, Exception> sendFailures;
+            if (alertDigestService.isEnabled()) {
+                alertDigestService.enqueueAll(claimed);
+                sendFailures = Map.of();
+            } else {
+                sendFailures = emailService.sendAlerts(claimed);
+            }
+            claimed.removeAll(sendFailures.keySet());
+            failures.putAll(sendFailures);
+
+            // Redis 마킹 + DB 상태 저장 (각각 한 번), 발송 실패분은 claim 해제
+            alertDedupStore.markAllAsSent(claimed);
+            alertStatusService.saveAllSent(claimed, LocalDateTime.now());
+            alertDedupStore.markAllFailed(sendFailures.keySet());
+            delivered = claimed.size();
+        } catch (Exception e) {
+            log.error("❌ Kafka 알림 배치 처리 실패: {}건", records.size(), e);
+            // 아직 claimed 상태인 알림은 풀어준다 (sent로 바뀐 알림은 변경되지 않음)
+            alertDedupStore.markAllFailed(claimed);
+            for (SubscriptionAlertEvent event : claimed) {
+                failures.putIfAbsent(event, e);
+            }
+        } finally {
+            lease.close();
+        }
+
+        log.info("📥 Kafka 알림 배치 처리: 수신 {}건, 발송 {}건, 재시도 {}건",
+                records.size(), delivered, failures.size());
+
+        // 메인 토픽을 막지 않도록 실패분은 재시도 토픽으로 넘긴다 (전송 실패 시 컨테이너가 배치를 재처리)
+        CompletableFuture.allOf(failures.entrySet().stream()
+                        .map(entry -> alertProducer.sendToRetry(entry.getKey(), entry.getValue()))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+}
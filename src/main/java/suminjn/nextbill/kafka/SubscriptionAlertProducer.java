@@ -1,30 +1,129 @@
 package suminjn.nextbill.kafka;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
+import suminjn.nextbill.dto.AlertSendResult;
 import suminjn.nextbill.dto.SubscriptionAlertEvent;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class SubscriptionAlertProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    // 값 직렬화는 AlertEventSerializer가 담당 (app.kafka.alert-wire-format)
+    private final KafkaTemplate<String, SubscriptionAlertEvent> kafkaTemplate;
+
+    public static final String TOPIC = "subscription.alert.scheduled";
+
+    // 발송 실패 알림 재시도 입구 (AlertRetryConsumer가 단계별 재시도 토픽과 DLT를 구성)
+    public static final String RETRY_TOPIC = "subscription.alert.retry";
+
+    // 재시도 입구로 넘길 때 붙이는 실패 정보 헤더
+    public static final String FAILURE_EXCEPTION_HEADER = "x-alert-failure-exception";
+    public static final String FAILURE_REASON_HEADER = "x-alert-failure-reason";
 
-    private static final String TOPIC = "subscription.alert.scheduled";
+    // 일괄 전송 시 브로커 응답을 기다리는 최대 레코드 수
+    @Value("${app.kafka.producer.max-in-flight:1000}")
+    private int maxInFlight;
 
     public void send(SubscriptionAlertEvent event) {
         try {
-            String message = objectMapper.writeValueAsString(event);
-            kafkaTemplate.send(TOPIC, message);
-            log.info("📤 Kafka 알림 이벤트 전송 완료: {}", message);
-        } catch (JsonProcessingException e) {
+            kafkaTemplate.send(TOPIC, keyOf(event), event)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.error("❌ Kafka 알림 이벤트 전송 실패: {}", event, ex);
+                        }
+                    });
+            log.info("📤 Kafka 알림 이벤트 전송 완료: {}", event);
+        } catch (Exception e) {
             log.error("❌ Kafka 메시지 직렬화 실패: {}", event, e);
         }
     }
+
+    /**
+     * 여러 이벤트를 subscriptionId 키로 비동기 전송하고 모든 ack를 기다린다.
+     * 응답 대기 중인 레코드가 max-in-flight에 도달하면 ack가 돌아올 때까지 전송을 멈추므로
+     * 브로커가 느려지면 호출자도 함께 느려진다.
+     *
+     * @return 성공 건수와 실패한 이벤트 목록 (실패분만 재전송할 수 있도록)
+     */
+    public AlertSendResult sendAll(Collection<SubscriptionAlertEvent> events) {
+        Semaphore window = new Semaphore(maxInFlight);
+        AtomicInteger succeeded = new AtomicInteger();
+        ConcurrentLinkedQueue<SubscriptionAlertEvent> failed = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<?>> pending = new ArrayList<>(events.size());
+
+        Iterator<SubscriptionAlertEvent> iterator = events.iterator();
+        while (iterator.hasNext()) {
+            SubscriptionAlertEvent event = iterator.next();
+            try {
+                window.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 보내지 못한 나머지도 실패로 돌려줘야 호출자가 성공으로 오인하지 않는다
+                failed.add(event);
+                iterator.forEachRemaining(failed::add);
+                break;
+            }
+
+            try {
+                pending.add(kafkaTemplate.send(TOPIC, keyOf(event), event)
+                        .whenComplete((result, ex) -> {
+                            window.release();
+                            if (ex != null) {
+                                failed.add(event);
+                            } else {
+                                succeeded.incrementAndGet();
+                            }
+                        }));
+            } catch (Exception e) {
+                // 직렬화 실패, 버퍼 부족, 메타데이터 조회 실패 등 동기 예외
+                window.release();
+                failed.add(event);
+            }
+        }
+
+        // 개별 실패는 failed에 기록되었으므로 완료 여부만 기다린다
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .exceptionally(ex -> null)
+                .join();
+
+        List<SubscriptionAlertEvent> failedEvents = new ArrayList<>(failed);
+        if (!failedEvents.isEmpty()) {
+            log.warn("⚠️ Kafka 알림 이벤트 일괄 전송: 성공 {}건, 실패 {}건", succeeded.get(), failedEvents.size());
+        } else {
+            log.debug("📤 Kafka 알림 이벤트 일괄 전송 완료: {}건", succeeded.get());
+        }
+        return new AlertSendResult(succeeded.get(), failedEvents);
+    }
+
+    /**
+     * 발송에 실패한 알림을 재시도 입구 토픽으로 넘긴다.
+     * 메인 토픽 파티션을 막지 않도록 재시도는 별도 토픽에서 지연 처리된다.
+     */
+    public CompletableFuture<?> sendToRetry(SubscriptionAlertEvent event, Throwable cause) {
+        ProducerRecord<String, SubscriptionAlertEvent> record = new ProducerRecord<>(RETRY_TOPIC, keyOf(event), event);
+        record.headers().add(FAILURE_EXCEPTION_HEADER, cause.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(FAILURE_REASON_HEADER, String.valueOf(cause.getMessage()).getBytes(StandardCharsets.UTF_8));
+        log.warn("🔁 알림 재시도 토픽 전송: {} ({})", event.dedupKey(), cause.getMessage());
+        return kafkaTemplate.send(record);
+    }
+
+    private String keyOf(SubscriptionAlertEvent event) {
+        return String.valueOf(event.getSubscriptionId());
+    }
 }
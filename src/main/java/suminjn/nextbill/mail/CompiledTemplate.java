@@ -0,0 +1,171 @@
+package suminjn.nextbill.mail;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 파싱해 둔 템플릿 렌더 계획
+ *
+ * 지원 문법: {{name}} 변수, {{#name}}...{{/name}} 섹션
+ * 섹션 값이 Collection이면 원소(Map)마다 반복하고, Map이면 그 안에서 한 번, true나 null이 아닌 값이면 한 번 렌더링한다.
+ * 변수는 안쪽 섹션부터 바깥 모델 순서로 찾고, 없거나 null이면 빈 문자열로 렌더링한다.
+ */
+final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final Node[] nodes;
+    private final boolean escapeHtml;
+
+    private CompiledTemplate(Node[] nodes, boolean escapeHtml) {
+        this.nodes = nodes;
+        this.escapeHtml = escapeHtml;
+    }
+
+    /**
+     * @throws IllegalArgumentException 태그가 닫히지 않았거나 섹션 짝이 맞지 않는 경우
+     */
+    static CompiledTemplate compile(String name, String source, boolean escapeHtml) {
+        Deque<SectionBuilder> stack = new ArrayDeque<>();
+        stack.push(new SectionBuilder(null));
+
+        int position = 0;
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                stack.peek().children.add(new Literal(source.substring(position)));
+                break;
+            }
+            if (open > position) {
+                stack.peek().children.add(new Literal(source.substring(position, open)));
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException(name + ": 닫히지 않은 태그 (위치 " + open + ")");
+            }
+
+            String tag = source.substring(open + OPEN.length(), close).trim();
+            if (tag.startsWith("#")) {
+                stack.push(new SectionBuilder(tag.substring(1).trim()));
+            } else if (tag.startsWith("/")) {
+                String sectionName = tag.substring(1).trim();
+                SectionBuilder section = stack.pop();
+                if (section.name == null || !section.name.equals(sectionName)) {
+                    throw new IllegalArgumentException(name + ": 짝이 맞지 않는 섹션 종료 {{/" + sectionName + "}}");
+                }
+                stack.peek().children.add(new Section(section.name, section.children.toArray(Node[]::new)));
+            } else if (tag.isEmpty()) {
+                throw new IllegalArgumentException(name + ": 빈 태그 (위치 " + open + ")");
+            } else {
+                stack.peek().children.add(new Variable(tag));
+            }
+            position = close + CLOSE.length();
+        }
+
+        if (stack.size() != 1) {
+            throw new IllegalArgumentException(name + ": 닫히지 않은 섹션 {{#" + stack.peek().name + "}}");
+        }
+        return new CompiledTemplate(stack.pop().children.toArray(Node[]::new), escapeHtml);
+    }
+
+    void render(Map<String, ?> model, StringBuilder out) {
+        Deque<Map<?, ?>> scopes = new ArrayDeque<>();
+        scopes.push(model);
+        render(nodes, scopes, out);
+    }
+
+    private void render(Node[] nodes, Deque<Map<?, ?>> scopes, StringBuilder out) {
+        for (Node node : nodes) {
+            switch (node) {
+                case Literal literal -> out.append(literal.text());
+                case Variable variable -> {
+                    Object value = lookup(scopes, variable.name());
+                    if (value != null) {
+                        appendValue(String.valueOf(value), out);
+                    }
+                }
+                case Section section -> renderSection(section, lookup(scopes, section.name()), scopes, out);
+            }
+        }
+    }
+
+    private void renderSection(Section section, Object value, Deque<Map<?, ?>> scopes, StringBuilder out) {
+        if (value == null || Boolean.FALSE.equals(value)) {
+            return;
+        }
+        if (value instanceof Collection<?> items) {
+            for (Object item : items) {
+                renderScoped(section, item, scopes, out);
+            }
+        } else {
+            renderScoped(section, value, scopes, out);
+        }
+    }
+
+    private void renderScoped(Section section, Object item, Deque<Map<?, ?>> scopes, StringBuilder out) {
+        if (item instanceof Map<?, ?> scope) {
+            scopes.push(scope);
+            try {
+                render(section.children(), scopes, out);
+            } finally {
+                scopes.pop();
+            }
+        } else {
+            render(section.children(), scopes, out);
+        }
+    }
+
+    private static Object lookup(Deque<Map<?, ?>> scopes, String name) {
+        for (Map<?, ?> scope : scopes) {
+            if (scope.containsKey(name)) {
+                return scope.get(name);
+            }
+        }
+        return null;
+    }
+
+    private void appendValue(String value, StringBuilder out) {
+        if (!escapeHtml) {
+            out.append(value);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    private sealed interface Node permits Literal, Variable, Section {
+    }
+
+    private record Literal(String text) implements Node {
+    }
+
+    private record Variable(String name) implements Node {
+    }
+
+    private record Section(String name, Node[] children) implements Node {
+    }
+
+    private static final class SectionBuilder {
+
+        private final String name;
+        private final List<Node> children = new ArrayList<>();
+
+        private SectionBuilder(String name) {
+            this.name = name;
+        }
+    }
+}
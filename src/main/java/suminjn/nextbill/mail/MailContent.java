@@ -0,0 +1,21 @@
+package suminjn.nextbill.mail;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 발송할 메일 한 통 (html이 있으면 text/plain + text/html multipart/alternative로 보낸다)
+ */
+@Getter
+@Builder
+public class MailContent {
+
+    private final String from;
+    private final String to;
+    private final String subject;
+    private final String text;
+    private final String html;
+
+    // 렌더링한 템플릿과 버전 (예: alert@3), X-NextBill-Template 헤더로 기록
+    private final String template;
+}
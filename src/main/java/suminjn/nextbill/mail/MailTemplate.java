@@ -0,0 +1,56 @@
+package suminjn.nextbill.mail;
+
+import java.util.Map;
+
+/**
+ * 컴파일된 메일 템플릿 한 벌 (제목 + 텍스트 본문 + 선택적 HTML 본문)
+ */
+final class MailTemplate {
+
+    private final String name;
+    private final int version;
+    private final int sourceHash;
+    private final CompiledTemplate subject;
+    private final CompiledTemplate text;
+    private final CompiledTemplate html;
+
+    MailTemplate(String name, int version, int sourceHash,
+                 CompiledTemplate subject, CompiledTemplate text, CompiledTemplate html) {
+        this.name = name;
+        this.version = version;
+        this.sourceHash = sourceHash;
+        this.subject = subject;
+        this.text = text;
+        this.html = html;
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    int getSourceHash() {
+        return sourceHash;
+    }
+
+    MailContent render(String from, String to, Map<String, ?> model, RenderBufferPool buffers) {
+        StringBuilder buffer = buffers.acquire();
+        try {
+            return MailContent.builder()
+                    .from(from)
+                    .to(to)
+                    .subject(renderPart(subject, model, buffer).trim())
+                    .text(renderPart(text, model, buffer))
+                    .html(html != null ? renderPart(html, model, buffer) : null)
+                    .template(name + "@" + version)
+                    .build();
+        } finally {
+            buffers.release(buffer);
+        }
+    }
+
+    private static String renderPart(CompiledTemplate part, Map<String, ?> model, StringBuilder buffer) {
+        buffer.setLength(0);
+        part.render(model, buffer);
+        return buffer.toString();
+    }
+}
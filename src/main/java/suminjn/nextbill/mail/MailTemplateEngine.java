@@ -0,0 +1,193 @@
+package suminjn.nextbill.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 메일 템플릿 엔진
+ *
+ * classpath:mail-templates/ 아래 {name}.subject.txt, {name}.txt, {name}.html(선택)을 시작 시 한 번 컴파일해 두고,
+ * 렌더링은 컴파일된 계획을 따라 풀에서 빌린 버퍼에 값만 채운다.
+ * override 디렉터리(app.mail.templates.location)에 같은 이름의 파일을 두면 classpath 템플릿을 대체하며,
+ * reloadIfChanged()가 파일 변경을 감지해 재시작 없이 다시 컴파일한다. 내용이 바뀐 템플릿만 버전이 올라가고,
+ * 컴파일에 실패하면 기존 버전을 그대로 사용한다.
+ */
+@Slf4j
+public class MailTemplateEngine {
+
+    private static final String CLASSPATH_PATTERN = "classpath*:mail-templates/*";
+    private static final String SUBJECT_SUFFIX = ".subject.txt";
+    private static final String TEXT_SUFFIX = ".txt";
+    private static final String HTML_SUFFIX = ".html";
+
+    private final Path overrideDirectory;
+    private final RenderBufferPool buffers;
+    private final Map<String, MailTemplate> templates = new ConcurrentHashMap<>();
+
+    // override 디렉터리 파일별 수정 시각 (변경 감지용)
+    private Map<String, Long> overrideFingerprint = Map.of();
+
+    /**
+     * @param overrideDirectory 핫 리로드할 템플릿 디렉터리 (없으면 null)
+     * @throws IllegalStateException 시작 시 템플릿을 읽거나 컴파일하지 못한 경우
+     */
+    public MailTemplateEngine(Path overrideDirectory, int bufferPoolSize) {
+        this.overrideDirectory = overrideDirectory;
+        this.buffers = new RenderBufferPool(bufferPoolSize);
+        try {
+            overrideFingerprint = fingerprint();
+            reload(loadSources(), true);
+        } catch (IOException e) {
+            throw new IllegalStateException("메일 템플릿 로드 실패", e);
+        }
+        log.info("📝 메일 템플릿 {}개 컴파일 완료: {}", templates.size(), templates.keySet());
+    }
+
+    /**
+     * @throws IllegalArgumentException 등록되지 않은 템플릿인 경우
+     */
+    public MailContent render(String name, String from, String to, Map<String, ?> model) {
+        MailTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("등록되지 않은 메일 템플릿: " + name);
+        }
+        return template.render(from, to, model, buffers);
+    }
+
+    public int getVersion(String name) {
+        MailTemplate template = templates.get(name);
+        return template != null ? template.getVersion() : 0;
+    }
+
+    /**
+     * override 디렉터리가 바뀌었으면 템플릿을 다시 컴파일한다.
+     *
+     * @return 다시 읽었으면 true
+     */
+    public synchronized boolean reloadIfChanged() {
+        if (overrideDirectory == null) {
+            return false;
+        }
+        try {
+            Map<String, Long> current = fingerprint();
+            if (current.equals(overrideFingerprint)) {
+                return false;
+            }
+            overrideFingerprint = current;
+            reload(loadSources(), false);
+            return true;
+        } catch (IOException e) {
+            log.error("❌ 메일 템플릿 다시 읽기 실패: {}", overrideDirectory, e);
+            return false;
+        }
+    }
+
+    private void reload(Map<String, Map<String, String>> sourcesByName, boolean failFast) {
+        for (Map.Entry<String, Map<String, String>> entry : sourcesByName.entrySet()) {
+            String name = entry.getKey();
+            Map<String, String> sources = entry.getValue();
+            int sourceHash = Objects.hash(sources.get(SUBJECT_SUFFIX), sources.get(TEXT_SUFFIX), sources.get(HTML_SUFFIX));
+
+            MailTemplate previous = templates.get(name);
+            if (previous != null && previous.getSourceHash() == sourceHash) {
+                continue;
+            }
+            try {
+                int version = previous != null ? previous.getVersion() + 1 : 1;
+                templates.put(name, compile(name, version, sourceHash, sources));
+                if (previous != null) {
+                    log.info("🔄 메일 템플릿 갱신: {}@{}", name, version);
+                }
+            } catch (IllegalArgumentException e) {
+                if (failFast) {
+                    throw new IllegalStateException("메일 템플릿 컴파일 실패: " + name, e);
+                }
+                log.error("❌ 메일 템플릿 컴파일 실패, 기존 버전을 유지합니다: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static MailTemplate compile(String name, int version, int sourceHash, Map<String, String> sources) {
+        String subject = sources.get(SUBJECT_SUFFIX);
+        String text = sources.get(TEXT_SUFFIX);
+        if (subject == null || text == null) {
+            throw new IllegalArgumentException(name + ": 제목(" + SUBJECT_SUFFIX + ")과 본문(" + TEXT_SUFFIX + ")이 필요합니다.");
+        }
+        String html = sources.get(HTML_SUFFIX);
+        return new MailTemplate(name, version, sourceHash,
+                CompiledTemplate.compile(name + SUBJECT_SUFFIX, subject, false),
+                CompiledTemplate.compile(name + TEXT_SUFFIX, text, false),
+                html != null ? CompiledTemplate.compile(name + HTML_SUFFIX, html, true) : null);
+    }
+
+    // 템플릿 이름 → (확장자 → 원문), override 디렉터리가 classpath를 덮어쓴다
+    private Map<String, Map<String, String>> loadSources() throws IOException {
+        Map<String, Map<String, String>> sources = new TreeMap<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(CLASSPATH_PATTERN)) {
+            if (resource.isReadable() && resource.getFilename() != null) {
+                try (InputStream in = resource.getInputStream()) {
+                    put(sources, resource.getFilename(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        if (overrideDirectory != null && Files.isDirectory(overrideDirectory)) {
+            try (Stream<Path> files = Files.list(overrideDirectory)) {
+                for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                    put(sources, file.getFileName().toString(), Files.readString(file, StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return sources;
+    }
+
+    private static void put(Map<String, Map<String, String>> sources, String filename, String source) {
+        String suffix;
+        if (filename.endsWith(SUBJECT_SUFFIX)) {
+            suffix = SUBJECT_SUFFIX;
+        } else if (filename.endsWith(TEXT_SUFFIX)) {
+            suffix = TEXT_SUFFIX;
+        } else if (filename.endsWith(HTML_SUFFIX)) {
+            suffix = HTML_SUFFIX;
+        } else {
+            return;
+        }
+        String name = filename.substring(0, filename.length() - suffix.length());
+        // 파일 끝 줄바꿈 하나는 템플릿 내용으로 보지 않는다
+        String trimmed = source.endsWith("\n") ? source.substring(0, source.length() - 1) : source;
+        sources.computeIfAbsent(name, key -> new HashMap<>()).put(suffix, trimmed);
+    }
+
+    private Map<String, Long> fingerprint() throws IOException {
+        if (overrideDirectory == null || !Files.isDirectory(overrideDirectory)) {
+            return Map.of();
+        }
+        Map<String, Long> fingerprint = new HashMap<>();
+        try (Stream<Path> files = Files.list(overrideDirectory)) {
+            files.filter(Files::isRegularFile).forEach(file -> {
+                try {
+                    fingerprint.put(file.getFileName().toString(),
+                            Files.getLastModifiedTime(file).toMillis() ^ Files.size(file));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return fingerprint;
+    }
+}
@@ -0,0 +1,254 @@
+package suminjn.nextbill.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 인증된 SMTP 연결을 재사용하는 메일 발송기
+ *
+ * 메일마다 연결 + STARTTLS + AUTH를 새로 맺는 대신 최대 pool-size개의 Transport를 열어 두고 여러 메시지를 이어서 보낸다.
+ * 연결을 빌려줄 때 NOOP(isConnected)로 상태를 확인하고, 유휴 시간이나 연결당 발송 수를 넘긴 연결은 다시 맺는다.
+ * 연결 수준 오류가 나면 연결을 교체한 뒤 해당 메시지를 한 번 더 보낸다.
+ * HTML 본문이 있는 메일은 text/plain + text/html multipart/alternative로 보낸다.
+ * 메시지마다 SmtpRateLimiter의 허가를 받아 보내며, 허가를 받지 못한 메시지는 실패로 돌려 호출자가 재시도하게 한다.
+ */
+@Slf4j
+public class PooledMailSender implements DisposableBean {
+
+    private static final String TEMPLATE_HEADER = "X-NextBill-Template";
+
+    private final JavaMailSenderImpl settings;
+    private final Session session;
+    private final int poolSize;
+    private final int maxMessagesPerConnection;
+    private final long maxIdleMillis;
+    private final SmtpRateLimiter rateLimiter;
+
+    private final BlockingQueue<PooledConnection> idle = new LinkedBlockingQueue<>();
+    private final AtomicInteger created = new AtomicInteger();
+
+    public PooledMailSender(JavaMailSenderImpl settings, int poolSize, int maxMessagesPerConnection, Duration maxIdle) {
+        this(settings, poolSize, maxMessagesPerConnection, maxIdle, SmtpRateLimiter.unlimited(poolSize));
+    }
+
+    public PooledMailSender(JavaMailSenderImpl settings, int poolSize, int maxMessagesPerConnection, Duration maxIdle,
+                            SmtpRateLimiter rateLimiter) {
+        if (poolSize < 1 || maxMessagesPerConnection < 1) {
+            throw new IllegalArgumentException("메일 연결 풀 설정값이 올바르지 않습니다.");
+        }
+        this.settings = settings;
+        this.session = settings.getSession();
+        this.poolSize = poolSize;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.maxIdleMillis = maxIdle.toMillis();
+        this.rateLimiter = rateLimiter;
+    }
+
+    public void send(MailContent message) {
+        Map<MailContent, Exception> failures = sendAll(List.of(message), Function.identity());
+        if (!failures.isEmpty()) {
+            Exception cause = failures.values().iterator().next();
+            throw new MailSendException("메일 발송 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 항목들을 메일로 바꿔 최대 pool-size개 연결에 나눠 보낸다.
+     *
+     * @return 발송에 실패한 항목과 원인 (모두 성공하면 빈 Map)
+     */
+    public <T> Map<T, Exception> sendAll(Collection<T> items, Function<T, MailContent> toMessage) {
+        Map<T, Exception> failures = new ConcurrentHashMap<>();
+        if (items.isEmpty()) {
+            return failures;
+        }
+
+        // 연결 수(현재 허용된 동시 발송 수 이내)만큼 나눠 각 연결에서 순서대로 발송
+        int partitions = Math.min(Math.min(poolSize, rateLimiter.getConcurrencyLimit()), items.size());
+        List<List<T>> chunks = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            chunks.add(new ArrayList<>());
+        }
+        int index = 0;
+        for (T item : items) {
+            chunks.get(index++ % partitions).add(item);
+        }
+
+        if (partitions == 1) {
+            sendChunk(chunks.get(0), toMessage, failures);
+            return failures;
+        }
+        // close()가 모든 발송 완료를 기다린다
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<T> chunk : chunks) {
+                executor.submit(() -> sendChunk(chunk, toMessage, failures));
+            }
+        }
+        return failures;
+    }
+
+    private <T> void sendChunk(List<T> chunk, Function<T, MailContent> toMessage, Map<T, Exception> failures) {
+        PooledConnection connection;
+        try {
+            connection = borrow();
+        } catch (Exception e) {
+            chunk.forEach(item -> failures.put(item, e));
+            return;
+        }
+
+        try {
+            for (T item : chunk) {
+                try {
+                    if (!rateLimiter.acquire()) {
+                        failures.put(item, new MailSendException("SMTP 발송 한도로 대기 시간을 초과했습니다."));
+                        continue;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failures.put(item, e);
+                    continue;
+                }
+
+                try {
+                    connection.send(toMimeMessage(toMessage.apply(item)));
+                    rateLimiter.release(SmtpRateLimiter.Outcome.SUCCESS);
+                } catch (Exception e) {
+                    rateLimiter.release(classify(e));
+                    failures.put(item, e);
+                }
+            }
+        } finally {
+            release(connection);
+        }
+    }
+
+    private SmtpRateLimiter.Outcome classify(Exception e) {
+        if (SmtpRateLimiter.isDailyQuotaExceeded(e)) {
+            rateLimiter.markQuotaExhausted();
+            return SmtpRateLimiter.Outcome.FAILED;
+        }
+        return SmtpRateLimiter.isThrottle(e) ? SmtpRateLimiter.Outcome.THROTTLED : SmtpRateLimiter.Outcome.FAILED;
+    }
+
+    private PooledConnection borrow() throws InterruptedException {
+        PooledConnection connection = idle.poll();
+        if (connection == null) {
+            if (created.incrementAndGet() <= poolSize) {
+                connection = new PooledConnection();
+            } else {
+                created.decrementAndGet();
+                connection = idle.take();
+            }
+        }
+        return connection;
+    }
+
+    private void release(PooledConnection connection) {
+        idle.offer(connection);
+    }
+
+    private MimeMessage toMimeMessage(MailContent message) throws MessagingException {
+        MimeMessage mimeMessage = new MimeMessage(session);
+        boolean multipart = message.getHtml() != null;
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, multipart, "UTF-8");
+        helper.setFrom(message.getFrom());
+        helper.setTo(message.getTo());
+        helper.setSubject(message.getSubject());
+        if (multipart) {
+            helper.setText(message.getText(), message.getHtml());
+        } else {
+            helper.setText(message.getText());
+        }
+        if (message.getTemplate() != null) {
+            mimeMessage.setHeader(TEMPLATE_HEADER, message.getTemplate());
+        }
+        mimeMessage.saveChanges();
+        return mimeMessage;
+    }
+
+    @Override
+    public void destroy() {
+        PooledConnection connection;
+        while ((connection = idle.poll()) != null) {
+            connection.close();
+        }
+    }
+
+    private final class PooledConnection {
+
+        private Transport transport;
+        private int sentCount;
+        private long lastUsedAt;
+
+        void send(MimeMessage message) throws MessagingException {
+            ensureHealthy();
+            try {
+                transport.sendMessage(message, message.getAllRecipients());
+            } catch (SendFailedException e) {
+                // 수신자 거부 등 메시지 단위 오류는 연결을 유지한다
+                throw e;
+            } catch (MessagingException e) {
+                if (SmtpRateLimiter.isThrottle(e)) {
+                    // 제한 응답은 바로 다시 보내지 않는다 (서버가 연결을 끊으므로 다음 발송 때 다시 맺는다)
+                    close();
+                    throw e;
+                }
+                // 연결 수준 오류는 연결을 교체한 뒤 한 번 더 시도
+                log.warn("⚠️ SMTP 연결 오류로 연결을 교체합니다: {}", e.getMessage());
+                reconnect();
+                transport.sendMessage(message, message.getAllRecipients());
+            }
+            sentCount++;
+            lastUsedAt = System.currentTimeMillis();
+        }
+
+        private void ensureHealthy() throws MessagingException {
+            boolean expired = sentCount >= maxMessagesPerConnection
+                    || System.currentTimeMillis() - lastUsedAt > maxIdleMillis;
+            if (transport == null || expired || !transport.isConnected()) {
+                reconnect();
+            }
+        }
+
+        private void reconnect() throws MessagingException {
+            close();
+            transport = session.getTransport(settings.getProtocol());
+            transport.connect(settings.getHost(), settings.getPort(), settings.getUsername(), settings.getPassword());
+            sentCount = 0;
+            lastUsedAt = System.currentTimeMillis();
+        }
+
+        void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+            }
+            transport = null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package suminjn.nextbill.mail;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 렌더링용 StringBuilder 풀
+ *
+ * 발송이 가상 스레드에서 이뤄지므로 ThreadLocal 대신 공유 큐에서 빌려 쓰고 돌려준다.
+ * 비정상적으로 커진 버퍼는 돌려받지 않아 메모리를 붙잡지 않게 한다.
+ */
+final class RenderBufferPool {
+
+    private static final int INITIAL_CAPACITY = 2 * 1024;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private final BlockingQueue<StringBuilder> buffers;
+
+    RenderBufferPool(int size) {
+        this.buffers = new ArrayBlockingQueue<>(size);
+    }
+
+    StringBuilder acquire() {
+        StringBuilder buffer = buffers.poll();
+        return buffer != null ? buffer : new StringBuilder(INITIAL_CAPACITY);
+    }
+
+    void release(StringBuilder buffer) {
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            return;
+        }
+        buffer.setLength(0);
+        buffers.offer(buffer);
+    }
+}
@@ -0,0 +1,235 @@
+package suminjn.nextbill.mail;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * SMTP 발송 속도 제한기
+ *
+ * 초당 토큰 버킷과 일일 발송 한도로 메시지 한 건마다 허가를 내주고, 동시 발송 수는 AIMD로 조절한다.
+ * 서버가 4xx 제한 응답(421/450/451/452/454, 4.7.x)을 주면 동시 발송 수를 절반으로 줄이고 cooldown 동안 발송을 멈추며,
+ * 동시 발송 수만큼 연속으로 성공할 때마다 하나씩 늘린다. 5.4.5(일일 한도 초과)를 받으면 자정까지 발송하지 않는다.
+ * 허가를 기다리는 발송은 max-wait까지 대기열에서 기다리고, 포화 상태는 isSaturated()로 알려
+ * 호출자(Kafka 리스너)가 더 받아오지 않고 멈출 수 있게 한다.
+ * 가상 스레드에서 호출되므로 synchronized 대신 ReentrantLock으로 대기한다.
+ */
+@Slf4j
+public class SmtpRateLimiter {
+
+    public enum Outcome {SUCCESS, THROTTLED, FAILED}
+
+    private static final Pattern THROTTLE_RESPONSE = Pattern.compile("(^|\\D)(421|450|451|452|454)[ -]|\\b4\\.7\\.\\d+\\b");
+    private static final Pattern DAILY_QUOTA_RESPONSE = Pattern.compile("\\b5\\.4\\.5\\b|(?i)daily .*quota");
+
+    private final double permitsPerSecond;
+    private final double burst;
+    private final long dailyLimit;
+    private final int maxConcurrency;
+    private final long maxWaitNanos;
+    private final long cooldownNanos;
+    private final ZoneId zone;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long cooldownUntilNanos;
+    private LocalDate quotaDate;
+    private long sentToday;
+    private boolean quotaExhausted;
+    private int concurrencyLimit;
+    private int inFlight;
+    private int successesSinceIncrease;
+
+    /**
+     * @param permitsPerSecond 초당 발송 수 (0 이하면 제한 없음)
+     * @param burst            한 번에 몰아서 보낼 수 있는 최대 토큰 수
+     * @param dailyLimit       일일 발송 한도 (0 이하면 제한 없음)
+     * @param maxConcurrency   동시 발송 수 상한 (보통 SMTP 연결 풀 크기)
+     * @param maxWait          허가를 기다리는 최대 시간
+     * @param cooldown         제한 응답을 받은 뒤 발송을 멈추는 시간
+     */
+    public SmtpRateLimiter(double permitsPerSecond, int burst, long dailyLimit, int maxConcurrency,
+                           Duration maxWait, Duration cooldown, ZoneId zone) {
+        if (maxConcurrency < 1 || (permitsPerSecond > 0 && burst < 1)) {
+            throw new IllegalArgumentException("SMTP 발송 속도 제한 설정값이 올바르지 않습니다.");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.dailyLimit = dailyLimit;
+        this.maxConcurrency = maxConcurrency;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.cooldownNanos = cooldown.toNanos();
+        this.zone = zone;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+        this.cooldownUntilNanos = lastRefillNanos;
+        this.quotaDate = LocalDate.now(zone);
+        this.concurrencyLimit = maxConcurrency;
+    }
+
+    // 속도·일일 한도 없이 동시 발송 수만 조절
+    public static SmtpRateLimiter unlimited(int maxConcurrency) {
+        return new SmtpRateLimiter(0, 1, 0, maxConcurrency, Duration.ofMinutes(1), Duration.ofSeconds(30), ZoneId.systemDefault());
+    }
+
+    /**
+     * 메시지 한 건을 보낼 허가를 기다린다. 허가를 받으면 발송 후 반드시 release를 호출해야 한다.
+     *
+     * @return max-wait 안에 허가를 받았으면 true (일일 한도를 다 썼으면 기다리지 않고 false)
+     */
+    public boolean acquire() throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        waiting.incrementAndGet();
+        lock.lock();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                refill(now);
+                if (isQuotaExhausted()) {
+                    return false;
+                }
+
+                long waitNanos = 0;
+                if (now < cooldownUntilNanos) {
+                    waitNanos = cooldownUntilNanos - now;
+                } else if (inFlight >= concurrencyLimit) {
+                    waitNanos = deadline - now; // release가 깨운다
+                } else if (permitsPerSecond > 0 && tokens < 1) {
+                    waitNanos = (long) Math.ceil((1 - tokens) / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+                }
+
+                if (waitNanos == 0) {
+                    if (permitsPerSecond > 0) {
+                        tokens -= 1;
+                    }
+                    sentToday++;
+                    inFlight++;
+                    return true;
+                }
+                long remaining = deadline - now;
+                if (remaining <= 0) {
+                    return false;
+                }
+                changed.awaitNanos(Math.min(waitNanos, remaining));
+            }
+        } finally {
+            lock.unlock();
+            waiting.decrementAndGet();
+        }
+    }
+
+    public void release(Outcome outcome) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (outcome == Outcome.SUCCESS) {
+                // 동시 발송 수만큼 연속 성공하면 하나 늘린다 (additive increase)
+                if (concurrencyLimit < maxConcurrency && ++successesSinceIncrease >= concurrencyLimit) {
+                    concurrencyLimit++;
+                    successesSinceIncrease = 0;
+                }
+            } else if (outcome == Outcome.THROTTLED) {
+                // 제한 응답이면 절반으로 줄이고 cooldown 동안 멈춘다 (multiplicative decrease)
+                concurrencyLimit = Math.max(1, concurrencyLimit / 2);
+                successesSinceIncrease = 0;
+                tokens = 0;
+                cooldownUntilNanos = System.nanoTime() + cooldownNanos;
+                log.warn("⚠️ SMTP 발송 제한 응답, 동시 발송 수를 {}로 줄이고 {}초간 멈춥니다",
+                        concurrencyLimit, TimeUnit.NANOSECONDS.toSeconds(cooldownNanos));
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 서버가 일일 한도 초과를 알렸을 때 자정까지 발송을 멈춘다
+    public void markQuotaExhausted() {
+        lock.lock();
+        try {
+            quotaExhausted = true;
+            log.warn("⚠️ SMTP 일일 발송 한도 초과, {} 자정까지 발송을 멈춥니다", quotaDate);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 더 받아오면 대기열만 길어지는 상태인지 (cooldown 중이거나, 일일 한도를 다 썼거나, 동시 발송 수보다 많이 기다리는 경우)
+     */
+    public boolean isSaturated() {
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            return System.nanoTime() < cooldownUntilNanos
+                    || isQuotaExhausted()
+                    || waiting.get() > concurrencyLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getConcurrencyLimit() {
+        lock.lock();
+        try {
+            return concurrencyLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getSentToday() {
+        lock.lock();
+        try {
+            return sentToday;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static boolean isThrottle(Throwable e) {
+        return matches(e, THROTTLE_RESPONSE);
+    }
+
+    public static boolean isDailyQuotaExceeded(Throwable e) {
+        return matches(e, DAILY_QUOTA_RESPONSE);
+    }
+
+    private static boolean matches(Throwable e, Pattern pattern) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && pattern.matcher(cause.getMessage()).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isQuotaExhausted() {
+        return quotaExhausted || (dailyLimit > 0 && sentToday >= dailyLimit);
+    }
+
+    private void refill(long now) {
+        if (permitsPerSecond > 0) {
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+        }
+        lastRefillNanos = now;
+
+        LocalDate today = LocalDate.now(zone);
+        if (!today.equals(quotaDate)) {
+            quotaDate = today;
+            sentToday = 0;
+            quotaExhausted = false;
+        }
+    }
+}
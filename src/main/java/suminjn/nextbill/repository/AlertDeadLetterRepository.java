@@ -0,0 +1,15 @@
+package suminjn.nextbill.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import suminjn.nextbill.domain.AlertDeadLetter;
+
+import java.util.List;
+
+@Repository
+public interface AlertDeadLetterRepository extends JpaRepository<AlertDeadLetter, Long> {
+
+    // 재처리되지 않은 DLT 기록 (오래된 순)
+    List<AlertDeadLetter> findByReplayedAtIsNullOrderByDeadLetterIdAsc(Pageable pageable);
+}
@@ -0,0 +1,48 @@
+package suminjn.nextbill.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import suminjn.nextbill.domain.AlertSchedule;
+import suminjn.nextbill.domain.AlertScheduleId;
+import suminjn.nextbill.domain.enums.AlertType;
+import suminjn.nextbill.dto.SubscriptionAlertTarget;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AlertScheduleRepository extends JpaRepository<AlertSchedule, AlertScheduleId> {
+
+    // 발송일 + 알림 타입 범위를 구독 ID 키셋으로 조회 (담당 샤드만)
+    @Query("SELECT new suminjn.nextbill.dto.SubscriptionAlertTarget(" +
+            "s.subscriptionId, s.name, s.nextPaymentDate, u.email, " +
+            "u.isEmailAlertEnabled, u.emailAlert7Days, u.emailAlert3Days, u.emailAlert1Day, u.emailAlertDDay) " +
+            "FROM AlertSchedule a JOIN Subscription s ON s.subscriptionId = a.id.subscriptionId JOIN s.user u " +
+            "WHERE a.id.fireDate = :fireDate AND a.id.alertType = :alertType " +
+            "AND MOD(a.id.subscriptionId, :shardCount) IN :shards AND a.id.subscriptionId > :lastId " +
+            "AND s.isPaused = false " +
+            "ORDER BY a.id.subscriptionId")
+    List<SubscriptionAlertTarget> findScheduledTargetsAfter(@Param("fireDate") LocalDate fireDate,
+                                                            @Param("alertType") AlertType alertType,
+                                                            @Param("shardCount") Long shardCount,
+                                                            @Param("shards") Collection<Long> shards,
+                                                            @Param("lastId") Long lastId,
+                                                            Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AlertSchedule a WHERE a.id.subscriptionId IN :subscriptionIds")
+    int deleteBySubscriptionIds(@Param("subscriptionIds") Collection<Long> subscriptionIds);
+
+    // 이미 지난 발송일 정리
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AlertSchedule a WHERE a.id.fireDate < :date")
+    int deleteFiredBefore(@Param("date") LocalDate date);
+}
@@ -1,35 +1,94 @@
 package suminjn.nextbill.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import suminjn.nextbill.domain.Notification;
 import suminjn.nextbill.domain.User;
+import suminjn.nextbill.dto.NotificationResponseDto;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+    String FEED_SELECT = "SELECT new suminjn.nextbill.dto.NotificationResponseDto(" +
+            "n.notificationId, n.message, n.type, n.priority, n.isRead, n.createdAt, n.readAt, n.daysUntil, s.name) " +
+            "FROM Notification n LEFT JOIN n.subscription s ";
+    String FEED_KEYSET = "(n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.notificationId < :notificationId)) ";
+    String FEED_ORDER = "ORDER BY n.createdAt DESC, n.notificationId DESC";
+
     // 사용자별 알림 조회 (최신순)
     List<Notification> findByUserOrderByCreatedAtDesc(User user);
 
-    // 사용자별 읽지 않은 알림 조회
-    List<Notification> findByUserAndIsReadFalseOrderByCreatedAtDesc(User user);
+    // 알림 피드 첫 페이지 (idx_notifications_user_created 범위 스캔, 구독명은 조인으로 한 번에)
+    @Query(FEED_SELECT + "WHERE n.user.userId = :userId " + FEED_ORDER)
+    List<NotificationResponseDto> findFeed(@Param("userId") Long userId, Pageable pageable);
+
+    // 알림 피드 다음 페이지 (created_at, notification_id 키셋)
+    @Query(FEED_SELECT + "WHERE n.user.userId = :userId AND " + FEED_KEYSET + FEED_ORDER)
+    List<NotificationResponseDto> findFeedAfter(@Param("userId") Long userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("notificationId") Long notificationId,
+                                                Pageable pageable);
+
+    // 읽지 않은 알림 피드 첫 페이지 (idx_notifications_user_read_created 범위 스캔)
+    @Query(FEED_SELECT + "WHERE n.user.userId = :userId AND n.isRead = false " + FEED_ORDER)
+    List<NotificationResponseDto> findUnreadFeed(@Param("userId") Long userId, Pageable pageable);
+
+    // 읽지 않은 알림 피드 다음 페이지
+    @Query(FEED_SELECT + "WHERE n.user.userId = :userId AND n.isRead = false AND " + FEED_KEYSET + FEED_ORDER)
+    List<NotificationResponseDto> findUnreadFeedAfter(@Param("userId") Long userId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("notificationId") Long notificationId,
+                                                      Pageable pageable);
 
     // 사용자별 읽지 않은 알림 개수
     long countByUserAndIsReadFalse(User user);
 
+    // 사용자 묶음의 읽지 않은 알림 개수 [userId, count] (읽지 않은 알림이 없는 사용자는 빠진다)
+    @Query("SELECT n.user.userId, COUNT(n) FROM Notification n " +
+            "WHERE n.user.userId IN :userIds AND n.isRead = false GROUP BY n.user.userId")
+    List<Object[]> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
     // 특정 기간 이후의 알림 조회
     @Query("SELECT n FROM Notification n WHERE n.user = :user AND n.createdAt >= :since ORDER BY n.createdAt DESC")
     List<Notification> findByUserAndCreatedAtAfter(@Param("user") User user, @Param("since") LocalDateTime since);
 
-    // 읽은 알림 삭제 (30일 이전)
+    // 사용자별 읽은 알림 삭제 (전체 정리는 NotificationRetentionService가 청크 단위로 처리)
+    @Modifying
     @Query("DELETE FROM Notification n WHERE n.user = :user AND n.isRead = true AND n.readAt < :before")
-    void deleteReadNotificationsBefore(@Param("user") User user, @Param("before") LocalDateTime before);
+    int deleteReadNotificationsBefore(@Param("user") User user, @Param("before") LocalDateTime before);
+
+    // 사용자의 읽지 않은 알림 일괄 읽음 처리 (UPDATE 한 번, 바뀐 행 수 = 줄어든 읽지 않은 알림 수)
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt, n.updatedAt = :readAt " +
+            "WHERE n.user.userId = :userId AND n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
+
+    // 지정한 알림 일괄 읽음 처리 (본인 알림만)
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt, n.updatedAt = :readAt " +
+            "WHERE n.user.userId = :userId AND n.isRead = false AND n.notificationId IN :notificationIds")
+    int markAsReadByIds(@Param("userId") Long userId,
+                        @Param("notificationIds") Collection<Long> notificationIds,
+                        @Param("readAt") LocalDateTime readAt);
+
+    // 사용자의 모든 알림 삭제 (DELETE 한 번)
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.user.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
 
-    // 사용자의 모든 알림 삭제
-    void deleteAllByUser(User user);
+    // 지정한 알림 중 읽음 상태가 일치하는 알림 일괄 삭제 (본인 알림만)
+    @Modifying
+    @Query("DELETE FROM Notification n " +
+            "WHERE n.user.userId = :userId AND n.isRead = :isRead AND n.notificationId IN :notificationIds")
+    int deleteByIds(@Param("userId") Long userId,
+                    @Param("notificationIds") Collection<Long> notificationIds,
+                    @Param("isRead") boolean isRead);
 }
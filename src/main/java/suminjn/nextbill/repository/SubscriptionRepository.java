@@ -1,12 +1,19 @@
 package suminjn.nextbill.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import suminjn.nextbill.domain.Subscription;
+import suminjn.nextbill.domain.enums.BillingCycle;
+import suminjn.nextbill.dto.PaymentNotificationTarget;
+import suminjn.nextbill.dto.SubscriptionAlertTarget;
+import suminjn.nextbill.dto.SubscriptionPaymentDate;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,13 +21,88 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     List<Subscription> findByUser_UserId(Long userId);
     List<Subscription> findByNextPaymentDate(LocalDate date);
     List<Subscription> findByIsPausedFalseAndNextPaymentDate(LocalDate date);
-    List<Subscription> findByIsPausedFalse();
     
     // User 정보를 함께 fetch하는 메서드 (N+1 문제 해결)
     @Query("SELECT s FROM Subscription s JOIN FETCH s.user WHERE s.isPaused = false AND s.nextPaymentDate = :date")
     List<Subscription> findByIsPausedFalseAndNextPaymentDateWithUser(@Param("date") LocalDate date);
     
-    // 연체된 구독 조회 (결제일이 지났지만 아직 업데이트되지 않은 구독)
-    @Query("SELECT s FROM Subscription s JOIN FETCH s.user WHERE s.isPaused = false AND s.nextPaymentDate < :today")
-    List<Subscription> findOverdueSubscriptionsWithUser(@Param("today") LocalDate today);
-}
\ No newline at end of file
+    // 연체된 구독 ID 키셋 페이지 조회 (결제 주기별, 담당 샤드만)
+    @Query("SELECT s.subscriptionId FROM Subscription s " +
+            "WHERE s.isPaused = false AND s.billingCycle = :billingCycle AND s.nextPaymentDate < :today " +
+            "AND MOD(s.subscriptionId, :shardCount) IN :shards AND s.subscriptionId > :lastId " +
+            "ORDER BY s.subscriptionId")
+    List<Long> findOverdueIdsAfter(@Param("billingCycle") BillingCycle billingCycle,
+                                   @Param("today") LocalDate today,
+                                   @Param("shardCount") Long shardCount,
+                                   @Param("shards") Collection<Long> shards,
+                                   @Param("lastId") Long lastId,
+                                   Pageable pageable);
+
+    @Query("SELECT new suminjn.nextbill.dto.SubscriptionPaymentDate(s.subscriptionId, s.nextPaymentDate) " +
+            "FROM Subscription s WHERE s.subscriptionId IN :ids")
+    List<SubscriptionPaymentDate> findPaymentDatesByIds(@Param("ids") Collection<Long> ids);
+
+    // 결제일 일괄 이월: 오늘 이후가 되는 최소 주기 수만큼 한 번에 이동 (월말은 DATE_ADD가 해당 월 말일로 보정)
+    @Modifying
+    @Query(value = "UPDATE subscriptions " +
+            "SET next_payment_date = DATE_ADD(next_payment_date, " +
+            "      INTERVAL ((DATEDIFF(:today, next_payment_date) + 6) DIV 7) * 7 DAY), " +
+            "    updated_at = NOW(6) " +
+            "WHERE subscription_id IN (:ids) AND next_payment_date < :today", nativeQuery = true)
+    int rollForwardWeekly(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today);
+
+    @Modifying
+    @Query(value = "UPDATE subscriptions " +
+            "SET next_payment_date = DATE_ADD(next_payment_date, " +
+            "      INTERVAL TIMESTAMPDIFF(MONTH, next_payment_date, :today) " +
+            "        + (DATE_ADD(next_payment_date, INTERVAL TIMESTAMPDIFF(MONTH, next_payment_date, :today) MONTH) < :today) MONTH), " +
+            "    updated_at = NOW(6) " +
+            "WHERE subscription_id IN (:ids) AND next_payment_date < :today", nativeQuery = true)
+    int rollForwardMonthly(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today);
+
+    @Modifying
+    @Query(value = "UPDATE subscriptions " +
+            "SET next_payment_date = DATE_ADD(next_payment_date, " +
+            "      INTERVAL TIMESTAMPDIFF(YEAR, next_payment_date, :today) " +
+            "        + (DATE_ADD(next_payment_date, INTERVAL TIMESTAMPDIFF(YEAR, next_payment_date, :today) YEAR) < :today) YEAR), " +
+            "    updated_at = NOW(6) " +
+            "WHERE subscription_id IN (:ids) AND next_payment_date < :today", nativeQuery = true)
+    int rollForwardYearly(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today);
+
+    // 알림 대상 키셋 페이지 조회 (여러 결제일을 한 번에, 담당 샤드만, subscriptionId 기준, 엔티티 대신 프로젝션으로 조회)
+    @Query("SELECT new suminjn.nextbill.dto.SubscriptionAlertTarget(" +
+            "s.subscriptionId, s.name, s.nextPaymentDate, u.email, " +
+            "u.isEmailAlertEnabled, u.emailAlert7Days, u.emailAlert3Days, u.emailAlert1Day, u.emailAlertDDay) " +
+            "FROM Subscription s JOIN s.user u " +
+            "WHERE s.isPaused = false AND s.nextPaymentDate IN :dates " +
+            "AND MOD(s.subscriptionId, :shardCount) IN :shards AND s.subscriptionId > :lastId " +
+            "ORDER BY s.subscriptionId")
+    List<SubscriptionAlertTarget> findAlertTargetsAfter(@Param("dates") Collection<LocalDate> dates,
+                                                        @Param("shardCount") Long shardCount,
+                                                        @Param("shards") Collection<Long> shards,
+                                                        @Param("lastId") Long lastId,
+                                                        Pageable pageable);
+
+    // 결제일 기반 알림 생성 대상 키셋 페이지 조회 (대상 결제일만, 사용자 컬럼 포함, 담당 샤드만)
+    @Query("SELECT new suminjn.nextbill.dto.PaymentNotificationTarget(" +
+            "s.subscriptionId, u.userId, s.name, s.nextPaymentDate, u.email, " +
+            "u.isEmailAlertEnabled, u.emailAlert7Days, u.emailAlert3Days, u.emailAlert1Day) " +
+            "FROM Subscription s JOIN s.user u " +
+            "WHERE s.isPaused = false AND s.deletedAt IS NULL AND s.nextPaymentDate IN :dates " +
+            "AND MOD(s.subscriptionId, :shardCount) IN :shards AND s.subscriptionId > :lastId " +
+            "ORDER BY s.subscriptionId")
+    List<PaymentNotificationTarget> findPaymentNotificationTargetsAfter(@Param("dates") Collection<LocalDate> dates,
+                                                                       @Param("shardCount") Long shardCount,
+                                                                       @Param("shards") Collection<Long> shards,
+                                                                       @Param("lastId") Long lastId,
+                                                                       Pageable pageable);
+
+    // 활성 구독의 결제일 키셋 페이지 조회 (알림 스케줄 재구성용)
+    @Query("SELECT new suminjn.nextbill.dto.SubscriptionPaymentDate(s.subscriptionId, s.nextPaymentDate) " +
+            "FROM Subscription s " +
+            "WHERE s.isPaused = false AND s.deletedAt IS NULL AND s.nextPaymentDate >= :today AND s.subscriptionId > :lastId " +
+            "ORDER BY s.subscriptionId")
+    List<SubscriptionPaymentDate> findActivePaymentDatesAfter(@Param("today") LocalDate today,
+                                                              @Param("lastId") Long lastId,
+                                                              Pageable pageable);
+}
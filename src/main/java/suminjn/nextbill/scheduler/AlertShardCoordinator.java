@@ -0,0 +1,231 @@
+package suminjn.nextbill.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 다중 인스턴스 환경에서 스케줄러 작업을 노드별로 분할하기 위한 샤드 lease 관리자
+ *
+ * 구독 키 공간을 shard-count개의 샤드(subscriptionId mod shard-count)로 나누고,
+ * 각 노드는 Redis lease(SET NX PX)로 살아있는 노드 수 기준 공정 몫만큼 샤드를 점유한다.
+ * 하트비트마다 lease를 갱신하고 초과분은 반납하며, 응답이 없는 노드의 lease는 TTL 만료 후
+ * 다른 노드가 가져가므로 노드 추가/장애 시 자동으로 재분배된다.
+ * 하루 한 번 도는 작업은 (작업, 날짜)별 완료 샤드를 기록해, 크론 시각에 죽은 노드가 잡고 있던 샤드도
+ * lease를 넘겨받은 노드가 그날 안에 이어서 처리할 수 있게 한다.
+ *
+ * 하트비트는 @Scheduled 스레드 풀과 분리된 전용 스레드에서 돈다. 공유 풀이 긴 작업(발송, 보관 정리,
+ * 아웃박스 릴레이 등)으로 가득 차도 lease가 실행 도중 만료되어 다른 노드가 같은 샤드를 다시 처리하지 않는다.
+ * 실행 중인 샤드는 pin으로 고정해, 노드가 추가되어 공정 몫이 줄어도 실행이 끝날 때까지 반납하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertShardCoordinator {
+
+    private static final String NODES_KEY = "scheduler:nodes";
+    private static final String SHARD_KEY_PREFIX = "scheduler:shard:";
+    private static final String DONE_KEY_PREFIX = "scheduler:done:";
+
+    // 완료 기록 보관 기간 (날짜가 바뀐 뒤에는 참조하지 않음)
+    private static final Duration DONE_TTL = Duration.ofDays(2);
+
+    // 본인 소유 lease인 경우에만 갱신
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+            "else return 0 end", Long.class);
+
+    // 본인 소유 lease인 경우에만 반납
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('del', KEYS[1]) " +
+            "else return 0 end", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Long> ownedShards = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pinnedShards = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService heartbeatExecutor;
+
+    @Value("${app.scheduler.sharding.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.scheduler.sharding.shard-count:16}")
+    private long shardCount;
+
+    @Value("${app.scheduler.sharding.lease-ttl-ms:30000}")
+    private long leaseTtlMs;
+
+    @Value("${app.scheduler.sharding.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    @PostConstruct
+    public void startHeartbeat() {
+        if (!enabled) {
+            return;
+        }
+        heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "shard-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, 0, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rebalance();
+        } catch (Exception e) {
+            log.error("❌ 샤드 lease 하트비트 실패 - 노드: {}", nodeId, e);
+        }
+    }
+
+    /**
+     * 스케줄러 작업 시작 직전에 호출하여 최신 lease 상태 기준의 담당 샤드를 반환한다.
+     */
+    public ShardAssignment acquireAssignment() {
+        if (!enabled) {
+            return ShardAssignment.all();
+        }
+        rebalance();
+        return new ShardAssignment(shardCount, ownedShards);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 담당 샤드 중 해당 날짜의 작업을 아직 마치지 않은 샤드만 돌려준다 (샤딩을 쓰지 않으면 그대로).
+     */
+    public ShardAssignment pendingShards(String job, LocalDate date, ShardAssignment assignment) {
+        if (!enabled || assignment.isEmpty()) {
+            return assignment;
+        }
+        Set<String> done = redisTemplate.opsForSet().members(doneKey(job, date));
+        Set<Long> pending = assignment.getShards().stream()
+                .filter(shard -> done == null || !done.contains(String.valueOf(shard)))
+                .collect(Collectors.toSet());
+        return new ShardAssignment(assignment.getShardCount(), pending);
+    }
+
+    // 해당 날짜의 작업을 마친 샤드 기록
+    public void markCompleted(String job, LocalDate date, ShardAssignment assignment) {
+        if (!enabled || assignment.isEmpty()) {
+            return;
+        }
+        String key = doneKey(job, date);
+        redisTemplate.opsForSet().add(key, assignment.getShards().stream().map(String::valueOf).toArray(String[]::new));
+        redisTemplate.expire(key, DONE_TTL);
+    }
+
+    // 실행 중인 샤드를 고정해 공정 몫이 줄어도 반납하지 않는다 (unpin까지 lease는 계속 갱신)
+    public void pin(ShardAssignment assignment) {
+        if (enabled) {
+            pinnedShards.addAll(assignment.getShards());
+        }
+    }
+
+    public void unpin(ShardAssignment assignment) {
+        if (enabled) {
+            pinnedShards.removeAll(assignment.getShards());
+        }
+    }
+
+    // 단일 노드에서만 실행되어야 하는 작업은 0번 샤드 소유 노드가 담당
+    public boolean isLeader() {
+        return !enabled || ownedShards.contains(0L);
+    }
+
+    synchronized void rebalance() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - leaseTtlMs);
+
+        Long liveNodes = redisTemplate.opsForZSet().zCard(NODES_KEY);
+        long nodeCount = liveNodes == null || liveNodes < 1 ? 1 : liveNodes;
+        long fairShare = (shardCount + nodeCount - 1) / nodeCount;
+
+        // 보유 lease 갱신 (다른 노드에 넘어간 샤드는 제외)
+        ownedShards.removeIf(shard -> !renew(shard));
+
+        // 공정 몫 초과분 반납 (실행 중인 샤드 제외)
+        List<Long> surplus = ownedShards.stream()
+                .filter(shard -> !pinnedShards.contains(shard))
+                .sorted(Comparator.reverseOrder())
+                .limit(Math.max(0, ownedShards.size() - fairShare))
+                .toList();
+        surplus.forEach(this::release);
+
+        // 비어있는 샤드 확보
+        for (long shard = 0; shard < shardCount && ownedShards.size() < fairShare; shard++) {
+            if (!ownedShards.contains(shard) && tryClaim(shard)) {
+                ownedShards.add(shard);
+            }
+        }
+
+        log.debug("샤드 lease 갱신 - 노드: {}, 활성 노드: {}, 담당 샤드: {}/{}", nodeId, nodeCount, ownedShards, shardCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+        }
+        try {
+            List.copyOf(ownedShards).forEach(this::release);
+            redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+            log.info("샤드 lease 반납 완료 - 노드: {}", nodeId);
+        } catch (Exception e) {
+            log.warn("샤드 lease 반납 실패 - 노드: {}, 오류: {}", nodeId, e.getMessage());
+        }
+    }
+
+    private String doneKey(String job, LocalDate date) {
+        return DONE_KEY_PREFIX + job + ":" + date;
+    }
+
+    private boolean tryClaim(long shard) {
+        Boolean claimed = redisTemplate.opsForValue()
+                .setIfAbsent(SHARD_KEY_PREFIX + shard, nodeId, Duration.ofMillis(leaseTtlMs));
+        return Boolean.TRUE.equals(claimed);
+    }
+
+    private boolean renew(long shard) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(SHARD_KEY_PREFIX + shard),
+                nodeId, String.valueOf(leaseTtlMs));
+        return renewed != null && renewed == 1L;
+    }
+
+    private void release(long shard) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(SHARD_KEY_PREFIX + shard), nodeId);
+        ownedShards.remove(shard);
+    }
+}
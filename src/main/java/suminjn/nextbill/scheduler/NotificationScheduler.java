@@ -4,7 +4,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import suminjn.nextbill.service.NotificationRetentionService;
 import suminjn.nextbill.service.NotificationService;
+import suminjn.nextbill.service.NotificationUnreadCounter;
 
 @Component
 @RequiredArgsConstructor
@@ -12,28 +14,58 @@ import suminjn.nextbill.service.NotificationService;
 public class NotificationScheduler {
 
     private final NotificationService notificationService;
+    private final NotificationRetentionService notificationRetentionService;
+    private final NotificationUnreadCounter unreadCounter;
+    private final AlertShardCoordinator shardCoordinator;
 
-    // 매일 오전 9시에 결제일 기반 알림 생성
+    // 매일 오전 9시에 결제일 기반 알림 생성 (담당 샤드만)
     @Scheduled(cron = "0 0 9 * * *")
     public void generateDailyPaymentNotifications() {
         log.info("일일 결제 알림 스케줄러 시작");
         try {
-            notificationService.createPaymentNotifications();
+            ShardAssignment assignment = shardCoordinator.acquireAssignment();
+            if (assignment.isEmpty()) {
+                log.info("담당 샤드가 없어 일일 결제 알림 생성을 건너뜁니다.");
+                return;
+            }
+            notificationService.createPaymentNotifications(assignment);
             log.info("일일 결제 알림 스케줄러 완료");
         } catch (Exception e) {
             log.error("일일 결제 알림 스케줄러 실행 중 오류 발생", e);
         }
     }
 
-    // 매주 일요일 자정에 오래된 읽은 알림 정리
+    // 매주 일요일 자정에 보관 기간이 지난 읽은 알림 정리 (리더 노드에서만)
     @Scheduled(cron = "0 0 0 * * SUN")
     public void cleanupOldNotifications() {
+        shardCoordinator.acquireAssignment();
+        if (!shardCoordinator.isLeader()) {
+            log.info("리더 노드가 아니므로 오래된 알림 정리를 건너뜁니다.");
+            return;
+        }
+
         log.info("오래된 알림 정리 스케줄러 시작");
         try {
-            // TODO: 30일 이전의 읽은 알림 삭제 로직 구현
+            notificationRetentionService.purgeExpired();
             log.info("오래된 알림 정리 스케줄러 완료");
         } catch (Exception e) {
             log.error("오래된 알림 정리 스케줄러 실행 중 오류 발생", e);
         }
     }
+
+    // 읽지 않은 알림 카운터를 DB 기준으로 보정 (리더 노드에서만)
+    @Scheduled(fixedDelayString = "${app.notification.unread-counter.reconcile-interval-ms:600000}",
+            initialDelayString = "${app.notification.unread-counter.reconcile-interval-ms:600000}")
+    public void reconcileUnreadCounters() {
+        shardCoordinator.acquireAssignment();
+        if (!shardCoordinator.isLeader()) {
+            return;
+        }
+
+        try {
+            unreadCounter.reconcile();
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 카운터 보정 중 오류 발생", e);
+        }
+    }
 }
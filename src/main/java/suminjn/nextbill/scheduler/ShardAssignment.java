@@ -0,0 +1,41 @@
+package suminjn.nextbill.scheduler;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 현재 노드가 담당하는 구독 키 공간 조각
+ * subscriptionId mod shardCount 값이 shards에 포함되는 구독을 처리한다.
+ */
+@Getter
+public class ShardAssignment {
+
+    private static final ShardAssignment ALL = new ShardAssignment(1L, Set.of(0L));
+
+    private final Long shardCount;
+    private final Set<Long> shards;
+
+    public ShardAssignment(Long shardCount, Set<Long> shards) {
+        this.shardCount = shardCount;
+        this.shards = Set.copyOf(shards);
+    }
+
+    // 샤딩을 사용하지 않을 때 전체 키 공간
+    public static ShardAssignment all() {
+        return ALL;
+    }
+
+    public boolean owns(Long subscriptionId) {
+        return shards.contains(subscriptionId % shardCount);
+    }
+
+    public boolean isEmpty() {
+        return shards.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return shards + "/" + shardCount;
+    }
+}
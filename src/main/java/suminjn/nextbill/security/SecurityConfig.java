@@ -1,17 +1,29 @@
 package suminjn.nextbill.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestResolver;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -24,12 +36,54 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String MANAGEMENT_ROLE = "ACTUATOR";
+
     private final JwtFilter jwtFilter;
     private final OAuth2UserService oAuth2UserService;
     private final OAuth2AuthorizationRequestResolver authorizationRequestResolver;
     private final CustomOAuth2AuthorizationRequestRepository customAuthorizationRequestRepository;
 
+    // Actuator 운영자 계정 (비밀번호가 비어 있으면 health 외 엔드포인트는 모두 거절)
+    @Value("${app.management.username:ops}")
+    private String managementUsername;
+
+    @Value("${app.management.password:}")
+    private String managementPassword;
+
+    /**
+     * Actuator 전용 보안 체인
+     * health만 공개하고, 지표·DLT 재처리 등 나머지 엔드포인트는 운영자 계정 HTTP Basic 인증을 요구한다.
+     * 사용자 JWT에는 권한이 없으므로 로그인한 사용자도 접근할 수 없다.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementFilterChain(HttpSecurity http) throws Exception {
+        InMemoryUserDetailsManager operators = new InMemoryUserDetailsManager();
+        if (StringUtils.hasText(managementPassword)) {
+            operators.createUser(User.withUsername(managementUsername)
+                    .password(passwordEncoder().encode(managementPassword))
+                    .roles(MANAGEMENT_ROLE)
+                    .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(operators);
+        provider.setPasswordEncoder(passwordEncoder());
+
+        return http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .anyRequest().hasRole(MANAGEMENT_ROLE)
+                )
+                .authenticationManager(new ProviderManager(provider))
+                .httpBasic(Customizer.withDefaults())
+                .build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http, OAuth2SuccessHandler oAuth2SuccessHandler) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -40,7 +94,11 @@ public class SecurityConfig {
                         .maxSessionsPreventsLogin(false)
                 )
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/auth/**", "/oauth2/**", "/login/oauth2/code/**", "/swagger-ui/**", "/v3/api-docs/**", "/actuator/**").permitAll()
+                        // SSE 스트림 종료 시의 비동기 디스패치는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // SSE 스트림은 JWT 대신 일회용 티켓으로 사용자를 확인
+                        .requestMatchers(HttpMethod.GET, "/api/notifications/stream").permitAll()
+                        .requestMatchers("/api/auth/**", "/oauth2/**", "/login/oauth2/code/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2
@@ -0,0 +1,86 @@
+package suminjn.nextbill.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 발송 중인 알림의 claim을 발송이 끝날 때까지 연장한다
+ *
+ * claim TTL(app.alert.consumer.claim-ttl-ms)은 소비자가 죽었을 때 알림이 풀리는 시간이라 짧게 둔다.
+ * 배치 발송은 SMTP 속도 제한(max-poll-records / permits-per-second, 대기 max-wait-ms)에 묶여 TTL보다 길어질 수 있으므로,
+ * 살아 있는 소비자는 TTL의 1/3마다 본인 claim만 연장해 발송 도중 다른 소비자가 같은 알림을 다시 선점하지 않게 한다.
+ * 연장은 @Scheduled 풀과 분리된 전용 스레드에서 돈다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertClaimRenewer {
+
+    private final AlertDedupStore alertDedupStore;
+
+    private ScheduledExecutorService renewExecutor;
+
+    @Value("${app.alert.consumer.claim-ttl-ms:60000}")
+    private long claimTtlMs;
+
+    @PostConstruct
+    public void start() {
+        renewExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "alert-claim-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        renewExecutor.shutdownNow();
+    }
+
+    /**
+     * 선점한 알림의 claim 연장을 시작한다. 발송과 상태 기록이 끝나면 반환된 Lease를 닫는다.
+     */
+    public Lease hold(Collection<SubscriptionAlertEvent> events) {
+        if (events.isEmpty()) {
+            return new Lease(null);
+        }
+        List<SubscriptionAlertEvent> held = List.copyOf(events);
+        long periodMs = Math.max(1, claimTtlMs / 3);
+        return new Lease(renewExecutor.scheduleWithFixedDelay(
+                () -> renew(held), periodMs, periodMs, TimeUnit.MILLISECONDS));
+    }
+
+    private void renew(List<SubscriptionAlertEvent> events) {
+        try {
+            alertDedupStore.renewClaims(events);
+        } catch (Exception e) {
+            log.warn("⚠️ 알림 claim 연장 실패: {}건 - {}", events.size(), e.getMessage());
+        }
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Lease implements AutoCloseable {
+
+        private final ScheduledFuture<?> renewal;
+
+        @Override
+        public void close() {
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package suminjn.nextbill.service;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 알림 선점(claim) Lua 스크립트
+ * 반환값은 AlertDedupStore.ClaimResult 순서(0: CLAIMED, 1: ALREADY_SENT, 2: IN_PROGRESS)와 같다.
+ */
+final class AlertClaimScripts {
+
+    static final String SENT = "sent";
+    static final String FAILED = "failed";
+    static final String CLAIMED_PREFIX = "claimed:";
+
+    // 상태 키 하나로 sent/claimed/failed 판별 후 선점
+    // KEYS[1]=상태 키, ARGV[1]=소유자, ARGV[2]=claim TTL(ms)
+    static final String CLAIM =
+            "local v = redis.call('get', KEYS[1]) " +
+            "if v == 'sent' then return 1 end " +
+            "if v and v ~= 'failed' then return 2 end " +
+            "redis.call('set', KEYS[1], 'claimed:' .. ARGV[1], 'px', ARGV[2]) " +
+            "return 0";
+
+    // 발송 완료는 비트맵, 선점은 별도 키로 관리하는 경우
+    // KEYS[1]=비트맵 키, KEYS[2]=claim 키, ARGV[1]=비트 오프셋, ARGV[2]=소유자, ARGV[3]=claim TTL(ms)
+    static final String CLAIM_WITH_BITMAP =
+            "if redis.call('getbit', KEYS[1], ARGV[1]) == 1 then return 1 end " +
+            "local v = redis.call('get', KEYS[2]) " +
+            "if v and v ~= 'failed' then return 2 end " +
+            "redis.call('set', KEYS[2], 'claimed:' .. ARGV[2], 'px', ARGV[3]) " +
+            "return 0";
+
+    // 본인 claim인 경우에만 failed로 변경
+    // KEYS[1]=claim 키, ARGV[1]=소유자, ARGV[2]=failed 보관 TTL(ms)
+    static final String FAIL =
+            "if redis.call('get', KEYS[1]) == 'claimed:' .. ARGV[1] then " +
+            "  redis.call('set', KEYS[1], 'failed', 'px', ARGV[2]) return 1 " +
+            "else return 0 end";
+
+    // 본인 claim인 경우에만 TTL 연장 (sent/failed나 다른 소비자의 claim은 그대로 둔다)
+    // KEYS[1]=claim 키, ARGV[1]=소유자, ARGV[2]=claim TTL(ms)
+    static final String RENEW =
+            "if redis.call('get', KEYS[1]) == 'claimed:' .. ARGV[1] then " +
+            "  return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+            "else return 0 end";
+
+    static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(CLAIM, Long.class);
+    static final RedisScript<Long> CLAIM_WITH_BITMAP_SCRIPT = new DefaultRedisScript<>(CLAIM_WITH_BITMAP, Long.class);
+    static final RedisScript<Long> FAIL_SCRIPT = new DefaultRedisScript<>(FAIL, Long.class);
+    static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(RENEW, Long.class);
+
+    private AlertClaimScripts() {
+    }
+
+    static AlertDedupStore.ClaimResult toResult(Object code) {
+        return AlertDedupStore.ClaimResult.values()[((Number) code).intValue()];
+    }
+}
@@ -0,0 +1,114 @@
+package suminjn.nextbill.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import suminjn.nextbill.domain.AlertDeadLetter;
+import suminjn.nextbill.dto.AlertDeadLetterResponseDto;
+import suminjn.nextbill.dto.AlertSendResult;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.exception.EntityNotFoundException;
+import suminjn.nextbill.kafka.SubscriptionAlertProducer;
+import suminjn.nextbill.repository.AlertDeadLetterRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DLT로 넘어온 알림 기록과 재처리
+ * 조회·재처리는 운영자 인증이 필요한 Actuator 엔드포인트(AlertDeadLetterEndpoint)로만 노출한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AlertDeadLetterService {
+
+    private final AlertDeadLetterRepository alertDeadLetterRepository;
+    private final SubscriptionAlertProducer alertProducer;
+
+    // DLT로 넘어온 알림 기록
+    @Transactional
+    public void save(SubscriptionAlertEvent event, String exceptionClass, String failureReason, String originalTopic) {
+        alertDeadLetterRepository.save(AlertDeadLetter.builder()
+                .subscriptionId(event.getSubscriptionId())
+                .userEmail(event.getUserEmail())
+                .serviceName(event.getServiceName())
+                .alertType(event.getAlertType())
+                .alertDate(event.getAlertDate())
+                .exceptionClass(exceptionClass)
+                .failureReason(truncate(failureReason, 1000))
+                .originalTopic(originalTopic)
+                .failedAt(LocalDateTime.now())
+                .build());
+        log.error("☠️ 알림 발송 최종 실패 (DLT 기록): {} - {}", event.dedupKey(), failureReason);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AlertDeadLetterResponseDto> getPending(int limit) {
+        return alertDeadLetterRepository.findByReplayedAtIsNullOrderByDeadLetterIdAsc(PageRequest.of(0, limit))
+                .stream()
+                .map(AlertDeadLetterResponseDto::from)
+                .toList();
+    }
+
+    // 한 건 재처리: 메인 토픽으로 다시 발행
+    @Transactional
+    public void replay(Long deadLetterId) {
+        AlertDeadLetter deadLetter = alertDeadLetterRepository.findById(deadLetterId)
+                .orElseThrow(() -> new EntityNotFoundException("DLT 기록을 찾을 수 없습니다. ID: " + deadLetterId));
+        if (deadLetter.getReplayedAt() != null) {
+            throw new IllegalArgumentException("이미 재처리된 알림입니다. ID: " + deadLetterId);
+        }
+        replayAll(List.of(deadLetter));
+    }
+
+    // 재처리되지 않은 기록을 오래된 순으로 limit건 재처리
+    @Transactional
+    public int replayPending(int limit) {
+        return replayAll(alertDeadLetterRepository.findByReplayedAtIsNullOrderByDeadLetterIdAsc(PageRequest.of(0, limit)));
+    }
+
+    // ack를 받은 기록만 재처리 완료로 표시
+    private int replayAll(List<AlertDeadLetter> deadLetters) {
+        Map<SubscriptionAlertEvent, AlertDeadLetter> byEvent = new IdentityHashMap<>();
+        for (AlertDeadLetter deadLetter : deadLetters) {
+            byEvent.put(toEvent(deadLetter), deadLetter);
+        }
+
+        AlertSendResult result = alertProducer.sendAll(byEvent.keySet());
+        Set<SubscriptionAlertEvent> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        failed.addAll(result.getFailed());
+
+        byEvent.forEach((event, deadLetter) -> {
+            if (!failed.contains(event)) {
+                deadLetter.markReplayed();
+            }
+        });
+        log.info("🔁 DLT 알림 재처리: 성공 {}건, 실패 {}건", result.getSucceeded(), result.getFailedCount());
+        return result.getSucceeded();
+    }
+
+    private SubscriptionAlertEvent toEvent(AlertDeadLetter deadLetter) {
+        return SubscriptionAlertEvent.builder()
+                .subscriptionId(deadLetter.getSubscriptionId())
+                .userEmail(deadLetter.getUserEmail())
+                .serviceName(deadLetter.getServiceName())
+                .alertType(deadLetter.getAlertType())
+                .alertTypeDisplay(deadLetter.getAlertType().getDisplayName())
+                .alertDate(deadLetter.getAlertDate())
+                .build();
+    }
+
+    private String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+}
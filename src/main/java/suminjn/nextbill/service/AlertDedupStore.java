@@ -0,0 +1,46 @@
+package suminjn.nextbill.service;
+
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 중복 발송 방지용 캐시 저장소
+ * alert_statuses 조회 전에 빠르게 거르는 용도이며, 최종 판단은 DB가 한다.
+ *
+ * - key: 알림마다 문자열 키 하나 (RedisService, 기본값)
+ * - bitmap: (결제일, 알림 타입)마다 비트맵 하나 (RedisBitmapDedupStore)
+ * 실제 주입되는 빈은 AlertDedupConfig에서 결정한다.
+ *
+ * 소비자는 발송 전에 tryClaim으로 알림을 원자적으로 선점(claimed)하고,
+ * 발송 결과에 따라 markAsSent(sent) 또는 markAllFailed(failed)로 상태를 바꾼다.
+ * 선점한 소비자가 발송 중 죽으면 claim은 TTL 만료 후 자동으로 풀린다.
+ * 살아 있는 소비자는 발송이 끝날 때까지 renewClaims로 claim을 연장한다 (AlertClaimRenewer).
+ */
+public interface AlertDedupStore {
+
+    enum ClaimResult {
+        CLAIMED,       // 이번 호출이 선점에 성공 → 발송 진행
+        ALREADY_SENT,  // 이미 발송 완료
+        IN_PROGRESS    // 다른 소비자가 발송 중
+    }
+
+    // 조회와 선점을 왕복 한 번에 원자적으로 처리
+    ClaimResult tryClaim(SubscriptionAlertEvent event);
+
+    // 여러 알림을 파이프라인 한 번으로 선점
+    Map<SubscriptionAlertEvent, ClaimResult> tryClaimAll(List<SubscriptionAlertEvent> events);
+
+    // 본인이 선점한 알림만 failed로 바꿔 다음 전달에서 다시 선점할 수 있게 한다
+    void markAllFailed(Collection<SubscriptionAlertEvent> events);
+
+    // 본인이 선점 중인 알림만 claim TTL을 연장한다 (이미 sent/failed로 바뀐 알림은 그대로 둔다)
+    void renewClaims(Collection<SubscriptionAlertEvent> events);
+
+    void markAsSent(SubscriptionAlertEvent event);
+
+    // 여러 알림을 한 번에 마킹 (왕복 한 번)
+    void markAllAsSent(Collection<SubscriptionAlertEvent> events);
+}
@@ -0,0 +1,97 @@
+package suminjn.nextbill.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import suminjn.nextbill.domain.AlertStatus;
+import suminjn.nextbill.domain.Subscription;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.exception.AlertClaimConflictException;
+import suminjn.nextbill.service.AlertDedupStore.ClaimResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 한 건 발송 처리 (선점 → DB 중복 확인 → 이메일 발송 → 상태 기록)
+ * 발송하지 못하면 claim을 풀고 예외를 던져 호출자가 재시도 토픽으로 넘길 수 있게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AlertDeliveryService {
+
+    private final EmailService emailService;
+    private final AlertDigestService alertDigestService;
+    private final AlertDedupStore alertDedupStore;
+    private final AlertClaimRenewer alertClaimRenewer;
+    private final AlertStatusService alertStatusService;
+
+    /**
+     * @throws AlertClaimConflictException 다른 소비자가 발송 중인 경우
+     * @throws suminjn.nextbill.exception.EmailDeliveryException 이메일 발송에 실패한 경우
+     */
+    public void deliver(SubscriptionAlertEvent event) {
+        // Redis 선점 (중복 확인 + claim을 왕복 한 번에 원자적으로 처리)
+        ClaimResult claim = alertDedupStore.tryClaim(event);
+        if (claim == ClaimResult.ALREADY_SENT) {
+            log.info("⚠️ 이미 전송된 알림 (Redis 캐시): {}", event);
+            return;
+        }
+        if (claim == ClaimResult.IN_PROGRESS) {
+            // 선점한 소비자가 죽었다면 claim TTL 만료 후 재시도에서 선점된다
+            throw new AlertClaimConflictException("다른 소비자가 발송 중인 알림입니다: " + event.dedupKey());
+        }
+
+        // 발송 대기(속도 제한)가 claim TTL보다 길어져도 선점이 풀리지 않도록 연장
+        AlertClaimRenewer.Lease lease = alertClaimRenewer.hold(List.of(event));
+        try {
+            // DB에서도 중복 체크 (Redis 미스 케이스 대비)
+            boolean alreadySent = alertStatusService.isAlreadySent(
+                    event.getSubscriptionId(),
+                    event.getAlertDate(),
+                    event.getAlertType()
+            );
+
+            if (alreadySent) {
+                log.info("⚠️ 이미 전송된 알림 (DB 확인): {}", event);
+                // Redis에도 마킹
+                alertDedupStore.markAsSent(event);
+                return;
+            }
+
+            if (alertDigestService.isEnabled()) {
+                // 사용자별 다이제스트에 모아 한 통으로 발송 (발송 실패는 다이제스트가 다시 대기열에 넣는다)
+                alertDigestService.enqueue(event);
+            } else {
+                // 이메일 발송
+                emailService.sendAlert(event);
+            }
+        } catch (RuntimeException e) {
+            // claim을 failed로 바꿔 재시도에서 다시 선점할 수 있게 한다
+            alertDedupStore.markAllFailed(List.of(event));
+            throw e;
+        } finally {
+            lease.close();
+        }
+
+        // 발송은 끝났으므로 이후 기록 실패를 던지면 재시도에서 같은 알림이 다시 발송된다
+        try {
+            // Redis 캐시에 마킹 (claimed → sent)
+            alertDedupStore.markAsSent(event);
+
+            // DB에 상태 저장
+            alertStatusService.save(
+                    AlertStatus.builder()
+                            .subscription(Subscription.builder().subscriptionId(event.getSubscriptionId()).build())
+                            .alertDate(event.getAlertDate())
+                            .alertType(event.getAlertType())
+                            .isSent(true)
+                            .sentAt(LocalDateTime.now())
+                            .build()
+            );
+        } catch (RuntimeException e) {
+            log.error("❌ 알림 발송 후 전송 기록 실패 (재발송하지 않음): {} - {}", event.dedupKey(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package suminjn.nextbill.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.mail.SendFailedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import suminjn.nextbill.dto.AlertDigest;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자별 알림 다이제스트 (app.alert.digest.enabled=true)
+ *
+ * 같은 사용자·같은 날의 알림을 Redis 리스트 alert:digest:{email}|{date}에 모으고,
+ * 첫 알림이 들어온 시점 + window-ms를 발송 예정 시각으로 alert:digest:due ZSET에 기록한다.
+ * flush 주기마다 예정 시각이 지난 묶음을 Lua 스크립트로 원자적으로 처리 중 키(alert:digest:processing:{id})로 옮기고
+ * 메일 한 통으로 발송하므로 여러 인스턴스가 동시에 flush해도 같은 묶음을 두 번 보내지 않는다.
+ * 처리 중 키는 발송 결과를 처리한 뒤에만 지우고, 그 전에 인스턴스가 죽으면 임대 시간(processing-lease-ms)이
+ * 지난 묶음을 다른 인스턴스가 다시 가져가 발송한다 (알림은 큐에 넣을 때 이미 발송 완료로 기록되므로 잃지 않도록).
+ * 발송에 실패한 묶음은 max-attempts까지 다시 넣고, 수신자 거부 같은 영구 실패나 시도 초과는 DLT에 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AlertDigestService {
+
+    private static final String DUE_KEY = "alert:digest:due";
+    private static final String BUFFER_KEY_PREFIX = "alert:digest:";
+    private static final String INFLIGHT_KEY = "alert:digest:inflight";
+    private static final String PROCESSING_KEY_PREFIX = "alert:digest:processing:";
+    private static final String ATTEMPTS_KEY_PREFIX = "alert:digest:attempts:";
+
+    // DLT 기록의 original_topic 값 (Kafka 토픽이 아닌 다이제스트 발송에서 넘어온 실패)
+    private static final String DEAD_LETTER_SOURCE = "alert-digest";
+
+    // Redis가 flush 없이 남겨 두지 않도록 하는 버퍼 보관 한도
+    private static final long BUFFER_TTL_MS = 2L * 24 * 60 * 60 * 1000;
+
+    // KEYS[1]=버퍼 리스트, KEYS[2]=예정 ZSET, ARGV[1]=알림, ARGV[2]=예정 시각, ARGV[3]=멤버, ARGV[4]=버퍼 TTL
+    private static final String ENQUEUE =
+            "redis.call('rpush', KEYS[1], ARGV[1]) " +
+            "redis.call('pexpire', KEYS[1], ARGV[4]) " +
+            "redis.call('zadd', KEYS[2], 'NX', ARGV[2], ARGV[3]) " +
+            "return 1";
+
+    // 예정 ZSET에서 먼저 제거한 인스턴스만 버퍼를 처리 중 키로 옮기고 임대 기한을 기록한다
+    // KEYS[1]=예정 ZSET, KEYS[2]=버퍼, KEYS[3]=처리 중 키, KEYS[4]=처리 중 ZSET, ARGV[1]=멤버, ARGV[2]=임대 기한, ARGV[3]=처리 ID
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('zrem', KEYS[1], ARGV[1]) == 0 then return {} end " +
+            "if redis.call('exists', KEYS[2]) == 0 then return {} end " +
+            "redis.call('rename', KEYS[2], KEYS[3]) " +
+            "redis.call('zadd', KEYS[4], ARGV[2], ARGV[3]) " +
+            "return redis.call('lrange', KEYS[3], 0, -1)", List.class);
+
+    // 임대 기한이 지난 처리 중 묶음을 한 인스턴스만 다시 가져간다
+    // KEYS[1]=처리 중 ZSET, KEYS[2]=처리 중 키, ARGV[1]=처리 ID, ARGV[2]=현재 시각, ARGV[3]=새 임대 기한
+    private static final RedisScript<List> RECLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local lease = redis.call('zscore', KEYS[1], ARGV[1]) " +
+            "if not lease or tonumber(lease) > tonumber(ARGV[2]) then return {} end " +
+            "local items = redis.call('lrange', KEYS[2], 0, -1) " +
+            "if #items == 0 then redis.call('zrem', KEYS[1], ARGV[1]) return {} end " +
+            "redis.call('zadd', KEYS[1], ARGV[3], ARGV[1]) " +
+            "return items", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final EmailService emailService;
+    private final AlertDeadLetterService alertDeadLetterService;
+
+    @Value("${app.alert.digest.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.alert.digest.window-ms:300000}")
+    private long windowMs;
+
+    @Value("${app.alert.digest.flush-batch-size:200}")
+    private int flushBatchSize;
+
+    @Value("${app.alert.digest.processing-lease-ms:600000}")
+    private long processingLeaseMs;
+
+    @Value("${app.alert.digest.max-attempts:5}")
+    private int maxAttempts;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void enqueue(SubscriptionAlertEvent event) {
+        enqueueAll(List.of(event));
+    }
+
+    // 파이프라인 한 번으로 여러 알림을 사용자별 버퍼에 추가
+    public void enqueueAll(Collection<SubscriptionAlertEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        byte[] script = ENQUEUE.getBytes(StandardCharsets.UTF_8);
+        byte[] dueKey = DUE_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] dueAt = String.valueOf(System.currentTimeMillis() + windowMs).getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = String.valueOf(BUFFER_TTL_MS).getBytes(StandardCharsets.UTF_8);
+        LocalDate today = LocalDate.now();
+
+        List<byte[]> payloads = new ArrayList<>(events.size());
+        for (SubscriptionAlertEvent event : events) {
+            payloads.add(serialize(event));
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            int i = 0;
+            for (SubscriptionAlertEvent event : events) {
+                String member = memberOf(event.getUserEmail(), today);
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2,
+                        (BUFFER_KEY_PREFIX + member).getBytes(StandardCharsets.UTF_8), dueKey,
+                        payloads.get(i++), dueAt, member.getBytes(StandardCharsets.UTF_8), ttl);
+            }
+            return null;
+        });
+        log.debug("📨 알림 다이제스트 버퍼 추가: {}건", events.size());
+    }
+
+    /**
+     * 발송 예정 시각이 지난 다이제스트를 꺼내 사용자별 메일 한 통으로 발송한다.
+     */
+    @Scheduled(fixedDelayString = "${app.alert.digest.flush-interval-ms:30000}")
+    public void flushDue() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            while (flushBatch() == flushBatchSize) {
+                // 예정 시각이 지난 묶음이 남아 있으면 계속 처리
+            }
+            reclaimExpired();
+        } catch (Exception e) {
+            log.error("❌ 알림 다이제스트 발송 실패", e);
+        }
+    }
+
+    private int flushBatch() {
+        Set<String> dueMembers = redisTemplate.opsForZSet()
+                .rangeByScore(DUE_KEY, 0, System.currentTimeMillis(), 0, flushBatchSize);
+        if (dueMembers == null || dueMembers.isEmpty()) {
+            return 0;
+        }
+
+        String leaseUntil = String.valueOf(System.currentTimeMillis() + processingLeaseMs);
+        Map<AlertDigest, String> processingIds = new LinkedHashMap<>();
+        for (String member : dueMembers) {
+            String processingId = member + "#" + UUID.randomUUID();
+            List<String> items = redisTemplate.execute(DRAIN_SCRIPT,
+                    List.of(DUE_KEY, BUFFER_KEY_PREFIX + member, PROCESSING_KEY_PREFIX + processingId, INFLIGHT_KEY),
+                    member, leaseUntil, processingId);
+            if (items == null || items.isEmpty()) {
+                continue; // 다른 인스턴스가 먼저 꺼낸 묶음
+            }
+            processingIds.put(toDigest(member, items), processingId);
+        }
+
+        send(processingIds);
+        return dueMembers.size();
+    }
+
+    // 발송 도중 인스턴스가 죽어 임대 기한이 지난 묶음을 다시 발송
+    private void reclaimExpired() {
+        long now = System.currentTimeMillis();
+        Set<String> expired = redisTemplate.opsForZSet().rangeByScore(INFLIGHT_KEY, 0, now, 0, flushBatchSize);
+        if (expired == null || expired.isEmpty()) {
+            return;
+        }
+
+        String leaseUntil = String.valueOf(now + processingLeaseMs);
+        Map<AlertDigest, String> processingIds = new LinkedHashMap<>();
+        for (String processingId : expired) {
+            List<String> items = redisTemplate.execute(RECLAIM_SCRIPT,
+                    List.of(INFLIGHT_KEY, PROCESSING_KEY_PREFIX + processingId),
+                    processingId, String.valueOf(now), leaseUntil);
+            if (items == null || items.isEmpty()) {
+                continue;
+            }
+            processingIds.put(toDigest(processingId.substring(0, processingId.lastIndexOf('#')), items), processingId);
+        }
+
+        if (!processingIds.isEmpty()) {
+            log.warn("⚠️ 임대 기한이 지난 알림 다이제스트 재발송: {}통", processingIds.size());
+            send(processingIds);
+        }
+    }
+
+    private void send(Map<AlertDigest, String> processingIds) {
+        if (processingIds.isEmpty()) {
+            return;
+        }
+
+        Map<AlertDigest, Exception> failures = emailService.sendDigests(processingIds.keySet());
+        for (Map.Entry<AlertDigest, String> entry : processingIds.entrySet()) {
+            AlertDigest digest = entry.getKey();
+            String attemptsKey = ATTEMPTS_KEY_PREFIX + memberOf(digest.getUserEmail(), digest.getDigestDate());
+            Exception failure = failures.get(digest);
+            if (failure == null) {
+                redisTemplate.delete(attemptsKey);
+            } else {
+                handleFailure(digest, attemptsKey, failure);
+            }
+            // 결과를 처리한 뒤에만 처리 중 묶음을 지운다
+            redisTemplate.delete(PROCESSING_KEY_PREFIX + entry.getValue());
+            redisTemplate.opsForZSet().remove(INFLIGHT_KEY, entry.getValue());
+        }
+
+        int alerts = processingIds.keySet().stream().mapToInt(digest -> digest.getEvents().size()).sum();
+        log.info("📨 알림 다이제스트 발송: 메일 {}통 (알림 {}건), 실패 {}통",
+                processingIds.size() - failures.size(), alerts, failures.size());
+    }
+
+    private void handleFailure(AlertDigest digest, String attemptsKey, Exception failure) {
+        boolean permanent = failure instanceof SendFailedException;
+        Long attempts = redisTemplate.opsForValue().increment(attemptsKey);
+        redisTemplate.expire(attemptsKey, Duration.ofMillis(BUFFER_TTL_MS));
+
+        if (!permanent && attempts != null && attempts < maxAttempts) {
+            log.warn("⚠️ 알림 다이제스트 발송 실패, 다시 대기열에 넣습니다 ({}/{}회): {} ({})",
+                    attempts, maxAttempts, digest.getUserEmail(), failure.getMessage());
+            enqueueAll(digest.getEvents());
+            return;
+        }
+
+        // 수신자 거부 등 영구 실패 또는 시도 횟수 초과: 더 보내지 않고 DLT에 남긴다
+        for (SubscriptionAlertEvent event : digest.getEvents()) {
+            alertDeadLetterService.save(event, failure.getClass().getName(), failure.getMessage(), DEAD_LETTER_SOURCE);
+        }
+        redisTemplate.delete(attemptsKey);
+    }
+
+    private AlertDigest toDigest(String member, List<String> items) {
+        // 같은 구독·알림 타입은 한 줄만 (알림 소비자와 결제 알림 생성이 함께 넣는 경우)
+        Map<String, SubscriptionAlertEvent> eventsByKey = new LinkedHashMap<>();
+        for (String item : items) {
+            try {
+                SubscriptionAlertEvent event = objectMapper.readValue(item, SubscriptionAlertEvent.class);
+                eventsByKey.putIfAbsent(event.dedupKey(), event);
+            } catch (JsonProcessingException e) {
+                log.error("❌ 알림 다이제스트 항목 역직렬화 실패: {}", item, e);
+            }
+        }
+        int separator = member.lastIndexOf('|');
+        return new AlertDigest(member.substring(0, separator), LocalDate.parse(member.substring(separator + 1)),
+                new ArrayList<>(eventsByKey.values()));
+    }
+
+    private byte[] serialize(SubscriptionAlertEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 다이제스트 항목 직렬화 실패: " + event, e);
+        }
+    }
+
+    private String memberOf(String userEmail, LocalDate date) {
+        return userEmail + "|" + date;
+    }
+}
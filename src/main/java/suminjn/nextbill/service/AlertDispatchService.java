@@ -0,0 +1,137 @@
+package suminjn.nextbill.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import suminjn.nextbill.dto.AlertSendResult;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.kafka.SubscriptionAlertProducer;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 알림 이벤트 발행 실행 방식
+ *
+ * serial: 스케줄러 스레드에서 페이지 단위로 일괄 발행 (기본값)
+ * virtual: 이벤트를 partition-size 단위로 나누어 가상 스레드에서 병렬 발행하고,
+ *          max-concurrency 개수까지만 동시에 실행한 뒤 모두 끝날 때까지 기다린다.
+ *          스캔은 openBatch()로 모든 페이지가 같은 한도를 공유해 페이지 크기와 무관하게 한도까지 병렬화된다.
+ * outbox: Kafka로 직접 보내지 않고 outbox 테이블에 기록한다 (OutboxRelay가 발행).
+ * serial/virtual은 브로커 ack를 받지 못한 이벤트만 max-retries 횟수까지 다시 보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AlertDispatchService {
+
+    private final SubscriptionAlertProducer alertProducer;
+    private final OutboxService outboxService;
+
+    @Value("${app.alert.dispatch.mode:serial}")
+    private String mode;
+
+    @Value("${app.alert.dispatch.max-concurrency:16}")
+    private int maxConcurrency;
+
+    @Value("${app.alert.dispatch.partition-size:50}")
+    private int partitionSize;
+
+    @Value("${app.alert.dispatch.max-retries:2}")
+    private int maxRetries;
+
+    public void dispatch(List<SubscriptionAlertEvent> events) {
+        try (DispatchBatch batch = openBatch()) {
+            batch.dispatch(events);
+        }
+    }
+
+    /**
+     * 스캔 한 번 동안 여러 페이지를 같은 실행기와 동시 실행 한도로 발행한다 (close()에서 모두 끝날 때까지 대기)
+     */
+    public DispatchBatch openBatch() {
+        return new DispatchBatch("virtual".equals(mode));
+    }
+
+    /**
+     * 여러 번의 dispatch가 공유하는 발행 단위
+     * virtual 모드에서는 페이지마다 실행기를 새로 만들지 않고 모든 페이지의 파티션이 max-concurrency 한도를 나눠 쓴다.
+     * 한 페이지의 파티션 수가 한도보다 적어도 다음 페이지를 조회하는 동안 앞 페이지 발행이 계속 돌고,
+     * 한도가 차면 조회 스레드가 기다리므로 메모리에는 최대 max-concurrency개 파티션 + 현재 페이지만 남는다.
+     */
+    public class DispatchBatch implements AutoCloseable {
+
+        private final ExecutorService executor;
+        private final Semaphore permits;
+
+        private DispatchBatch(boolean parallel) {
+            this.executor = parallel ? Executors.newVirtualThreadPerTaskExecutor() : null;
+            this.permits = parallel ? new Semaphore(maxConcurrency) : null;
+        }
+
+        public void dispatch(List<SubscriptionAlertEvent> events) {
+            if ("outbox".equals(mode)) {
+                outboxService.appendAlerts(events);
+                return;
+            }
+            if (executor == null) {
+                sendWithRetry(events);
+                return;
+            }
+
+            for (int from = 0; from < events.size(); from += partitionSize) {
+                List<SubscriptionAlertEvent> partition = List.copyOf(
+                        events.subList(from, Math.min(from + partitionSize, events.size())));
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("알림 이벤트 병렬 발행이 중단되었습니다.");
+                    return;
+                }
+                executor.submit(() -> {
+                    try {
+                        sendWithRetry(partition);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+
+        // 제출한 모든 파티션의 발행이 끝날 때까지 기다린다
+        @Override
+        public void close() {
+            if (executor != null) {
+                executor.close();
+            }
+        }
+    }
+
+    private void sendWithRetry(List<SubscriptionAlertEvent> events) {
+        List<SubscriptionAlertEvent> pending = events;
+        for (int attempt = 0; !pending.isEmpty(); attempt++) {
+            AlertSendResult result;
+            try {
+                result = alertProducer.sendAll(pending);
+            } catch (Exception e) {
+                log.error("❌ 알림 이벤트 일괄 발행 실패: {}건", pending.size(), e);
+                return;
+            }
+
+            if (!result.hasFailures()) {
+                return;
+            }
+            if (attempt >= maxRetries) {
+                log.error("❌ 알림 이벤트 발행 최종 실패: {}건 (재시도 {}회)", result.getFailedCount(), maxRetries);
+                return;
+            }
+
+            log.warn("⚠️ 알림 이벤트 발행 실패분 재시도 ({}/{}): {}건", attempt + 1, maxRetries, result.getFailedCount());
+            pending = result.getFailed();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package suminjn.nextbill.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import suminjn.nextbill.domain.Subscription;
+import suminjn.nextbill.domain.enums.AlertType;
+import suminjn.nextbill.dto.SubscriptionAlertTarget;
+import suminjn.nextbill.dto.SubscriptionPaymentDate;
+import suminjn.nextbill.repository.AlertScheduleRepository;
+import suminjn.nextbill.repository.SubscriptionRepository;
+import suminjn.nextbill.scheduler.AlertShardCoordinator;
+import suminjn.nextbill.scheduler.ShardAssignment;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * alert_schedule 인덱스 관리
+ * 구독이 생성/수정/일시정지/삭제되거나 결제일이 갱신될 때마다 해당 구독의 발송 예정 행을 다시 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AlertScheduleService {
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO alert_schedule (fire_date, alert_type, subscription_id) VALUES (?, ?, ?)";
+
+    private final AlertScheduleRepository alertScheduleRepository;
+    private final SubscriptionRepository subscriptionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AlertShardCoordinator shardCoordinator;
+
+    @Value("${app.alert.scan-page-size:500}")
+    private int pageSize;
+
+    // 단일 구독 변경 반영
+    @Transactional
+    public void refresh(Subscription subscription) {
+        if (subscription.getIsPaused() || subscription.getDeletedAt() != null) {
+            remove(subscription.getSubscriptionId());
+            return;
+        }
+        replace(List.of(new SubscriptionPaymentDate(subscription.getSubscriptionId(), subscription.getNextPaymentDate())));
+    }
+
+    // 여러 구독의 발송 예정 행을 한 번에 교체
+    @Transactional
+    public void replace(Collection<SubscriptionPaymentDate> subscriptions) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        List<Long> subscriptionIds = subscriptions.stream()
+                .map(SubscriptionPaymentDate::getSubscriptionId)
+                .toList();
+        alertScheduleRepository.deleteBySubscriptionIds(subscriptionIds);
+        insert(subscriptions, LocalDate.now());
+    }
+
+    @Transactional
+    public void remove(Long subscriptionId) {
+        alertScheduleRepository.deleteBySubscriptionIds(List.of(subscriptionId));
+    }
+
+    /**
+     * 발송일과 알림 타입이 일치하는 담당 샤드의 대상을 구독 ID 키셋 페이지로 전달한다.
+     * (fire_date, alert_type) 기본키 접두 범위만 읽는다.
+     *
+     * @return 전달한 전체 건수
+     */
+    public long forEachScheduledPage(LocalDate fireDate, AlertType alertType, ShardAssignment assignment,
+                                     int pageSize, Consumer<List<SubscriptionAlertTarget>> pageConsumer) {
+        long total = 0;
+        Long lastId = 0L;
+        PageRequest limit = PageRequest.of(0, pageSize);
+
+        while (true) {
+            List<SubscriptionAlertTarget> page = alertScheduleRepository.findScheduledTargetsAfter(
+                    fireDate, alertType, assignment.getShardCount(), assignment.getShards(), lastId, limit);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            pageConsumer.accept(page);
+            total += page.size();
+
+            if (page.size() < pageSize) {
+                break;
+            }
+            lastId = page.get(page.size() - 1).getSubscriptionId();
+        }
+        return total;
+    }
+
+    // 이미 발송일이 지난 행 정리
+    public int pruneFiredBefore(LocalDate date) {
+        return alertScheduleRepository.deleteFiredBefore(date);
+    }
+
+    // 최초 배포 시 비어있는 스케줄을 기존 구독으로 채움 (리더 노드에서만)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            shardCoordinator.acquireAssignment();
+            if (!shardCoordinator.isLeader() || alertScheduleRepository.count() > 0) {
+                return;
+            }
+            long total = rebuildAll();
+            log.info("알림 스케줄 초기 구성 완료: {}건", total);
+        } catch (Exception e) {
+            log.error("❌ 알림 스케줄 초기 구성 실패", e);
+        }
+    }
+
+    // 활성 구독 전체를 페이지 단위로 다시 기록
+    public long rebuildAll() {
+        LocalDate today = LocalDate.now();
+        PageRequest limit = PageRequest.of(0, pageSize);
+        long total = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            List<SubscriptionPaymentDate> page = subscriptionRepository.findActivePaymentDatesAfter(today, lastId, limit);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            insert(page, today);
+            total += page.size();
+
+            if (page.size() < pageSize) {
+                break;
+            }
+            lastId = page.get(page.size() - 1).getSubscriptionId();
+        }
+        return total;
+    }
+
+    // 결제일 기준 D-7/D-3/D-1/D-Day 발송일 중 오늘 이후인 것만 기록
+    private void insert(Collection<SubscriptionPaymentDate> subscriptions, LocalDate today) {
+        List<Object[]> rows = new ArrayList<>();
+        for (SubscriptionPaymentDate subscription : subscriptions) {
+            for (AlertType alertType : AlertType.values()) {
+                LocalDate fireDate = subscription.getNextPaymentDate().minusDays(alertType.getDaysBefore());
+                if (!fireDate.isBefore(today)) {
+                    rows.add(new Object[]{Date.valueOf(fireDate), alertType.name(), subscription.getSubscriptionId()});
+                }
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+}
@@ -1,123 +1,181 @@
 package suminjn.nextbill.service;
 
 import suminjn.nextbill.domain.enums.AlertType;
-import suminjn.nextbill.domain.enums.BillingCycle;
-import suminjn.nextbill.domain.Subscription;
-import suminjn.nextbill.domain.User;
 import suminjn.nextbill.dto.SubscriptionAlertEvent;
-import suminjn.nextbill.kafka.SubscriptionAlertProducer;
+import suminjn.nextbill.dto.SubscriptionAlertTarget;
+import suminjn.nextbill.scheduler.AlertShardCoordinator;
+import suminjn.nextbill.scheduler.ShardAssignment;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AlertSchedulerService {
 
+    private static final String DAILY_ALERTS_JOB = "daily-alerts";
+
     private final SubscriptionService subscriptionService;
-    private final SubscriptionAlertProducer alertProducer;
+    private final AlertDispatchService alertDispatchService;
+    private final AlertShardCoordinator shardCoordinator;
+    private final AlertScheduleService alertScheduleService;
+    private final PaymentRollForwardService paymentRollForwardService;
+
+    @Value("${app.alert.scan-page-size:500}")
+    private int scanPageSize;
+
+    @Value("${app.alert.source:schedule}")
+    private String alertSource; // schedule | scan
 
+    // D-7, D-3, D-1, D-Day 알림을 한 번의 작업으로 처리 (담당 샤드만)
     @Scheduled(cron = "0 0 0 * * *")
-    @Transactional(readOnly = true)
-    public void sendD7Alerts() {
-        sendAlertsByOffset(7, AlertType.D_7);
-    }
+    public void sendDailyAlerts() {
+        ShardAssignment assignment = shardCoordinator.acquireAssignment();
+        if (assignment.isEmpty()) {
+            log.info("담당 샤드가 없어 알림 전송을 건너뜁니다.");
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        runDailyAlerts(today, assignment);
 
-    @Scheduled(cron = "0 5 0 * * *")
-    @Transactional(readOnly = true)
-    public void sendD3Alerts() {
-        sendAlertsByOffset(3, AlertType.D_3);
+        // 발송이 끝난 과거 스케줄 정리 (리더 노드에서만)
+        if (shardCoordinator.isLeader()) {
+            int pruned = alertScheduleService.pruneFiredBefore(today);
+            log.info("지난 알림 스케줄 정리: {}건", pruned);
+        }
     }
 
-    @Scheduled(cron = "0 10 0 * * *")
-    @Transactional(readOnly = true)
-    public void sendD1Alerts() {
-        sendAlertsByOffset(1, AlertType.D_1);
+    /**
+     * 크론 시각에 죽은 노드가 잡고 있던 샤드는 lease가 만료된 뒤에야 다른 노드에 넘어가므로,
+     * 하트비트 주기마다 새로 넘겨받은 샤드 중 오늘 발송을 마치지 않은 샤드를 이어서 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${app.scheduler.sharding.heartbeat-ms:10000}")
+    public void catchUpDailyAlerts() {
+        if (!shardCoordinator.isEnabled()) {
+            return;
+        }
+        try {
+            ShardAssignment assignment = shardCoordinator.acquireAssignment();
+            if (!assignment.isEmpty()) {
+                runDailyAlerts(LocalDate.now(), assignment);
+            }
+        } catch (Exception e) {
+            log.error("미완료 샤드 알림 전송 중 오류 발생", e);
+        }
     }
 
-    @Scheduled(cron = "0 15 0 * * *")
-    @Transactional(readOnly = true)
-    public void sendDDayAlerts() {
-        sendAlertsByOffset(0, AlertType.D_DAY);
+    // 오늘 아직 끝내지 않은 샤드만 발송하고 완료를 기록 (크론과 따라잡기가 겹치지 않도록 직렬화)
+    private synchronized void runDailyAlerts(LocalDate today, ShardAssignment assignment) {
+        ShardAssignment pending = shardCoordinator.pendingShards(DAILY_ALERTS_JOB, today, assignment);
+        if (pending.isEmpty()) {
+            return;
+        }
+        shardCoordinator.pin(pending);
+        try {
+            sendAlerts(today, pending);
+            shardCoordinator.markCompleted(DAILY_ALERTS_JOB, today, pending);
+        } finally {
+            shardCoordinator.unpin(pending);
+        }
     }
 
     @Scheduled(cron = "0 26 14 * * *")
-    @Transactional
     public void updateOverduePaymentDates() {
-        updateNextPaymentDates();
+        ShardAssignment assignment = shardCoordinator.acquireAssignment();
+        if (assignment.isEmpty()) {
+            log.info("담당 샤드가 없어 결제일 업데이트를 건너뜁니다.");
+            return;
+        }
+        paymentRollForwardService.rollForward(LocalDate.now(), assignment);
     }
 
-    private void sendAlertsByOffset(int daysBefore, AlertType alertType) {
-        LocalDate targetDate = LocalDate.now().plusDays(daysBefore);
-        List<Subscription> dueSubscriptions = subscriptionService.findDueToday(targetDate);
-
-        for (Subscription sub : dueSubscriptions) {
-            // 사용자별 알림 설정 확인
-            if (!shouldSendAlert(sub.getUser(), alertType)) {
-                continue; // 해당 알림이 비활성화된 경우 건너뛰기
-            }
-            
-            SubscriptionAlertEvent event = SubscriptionAlertEvent.builder()
-                    .subscriptionId(sub.getSubscriptionId())
-                    .userEmail(sub.getUser().getEmail())
-                    .serviceName(sub.getName())
-                    .alertDate(targetDate)
-                    .alertType(alertType)
-                    .alertTypeDisplay(alertType.getDisplayName()) // D-7, D-3, D-1 형식으로 표시
-                    .build();
-
-            // Kafka로 알림 이벤트 전송
-            alertProducer.send(event);
+    /**
+     * 오늘 발송할 D-7, D-3, D-1, D-Day 대상을 조회하여 한 번의 순회로 이벤트를 발행한다.
+     * 기본적으로 alert_schedule 인덱스의 (발송일, 알림 타입) 범위를 읽고,
+     * app.alert.source=scan 인 경우 subscriptions 테이블을 결제일 IN 조건으로 한 번 조회한 뒤
+     * 결제일로 알림 타입을 판별한다. 어느 쪽이든 한 번에 하나의 페이지만 메모리에 유지된다.
+     * 모든 페이지는 하나의 발행 단위를 공유해 페이지를 넘어 병렬로 발행되고, 반환 전에 발행이 모두 끝난다.
+     */
+    public void sendAlerts(LocalDate today, ShardAssignment assignment) {
+        Map<AlertType, Long> sentCounts = new EnumMap<>(AlertType.class);
+        long total;
+        try (AlertDispatchService.DispatchBatch batch = alertDispatchService.openBatch()) {
+            total = publishAll(today, assignment, batch, sentCounts);
         }
 
-        log.info("📆 {} 알림 전송 완료 ({}건): {}", alertType.getDisplayName(), dueSubscriptions.size(), targetDate);
+        log.info("📆 알림 전송 완료 (샤드 {}, 조회 {}건, 발송 {}): {}", assignment, total, sentCounts, today);
     }
 
-    private void updateNextPaymentDates() {
-        LocalDate today = LocalDate.now();
-        List<Subscription> overdueSubscriptions = subscriptionService.findOverdueSubscriptions(today);
+    private long publishAll(LocalDate today, ShardAssignment assignment, AlertDispatchService.DispatchBatch batch,
+                            Map<AlertType, Long> sentCounts) {
+        long total = 0;
+        if ("scan".equals(alertSource)) {
+            Map<LocalDate, AlertType> alertTypeByDate = new HashMap<>();
+            for (AlertType alertType : AlertType.values()) {
+                alertTypeByDate.put(today.plusDays(alertType.getDaysBefore()), alertType);
+            }
+            total = subscriptionService.forEachDuePage(alertTypeByDate.keySet(), assignment, scanPageSize, page ->
+                    publishPage(page, target -> alertTypeByDate.get(target.getNextPaymentDate()), batch, sentCounts));
+        } else {
+            for (AlertType alertType : AlertType.values()) {
+                total += alertScheduleService.forEachScheduledPage(today, alertType, assignment, scanPageSize, page ->
+                        publishPage(page, target -> alertType, batch, sentCounts));
+            }
+        }
+        return total;
+    }
 
-        for (Subscription subscription : overdueSubscriptions) {
-            LocalDate currentPaymentDate = subscription.getNextPaymentDate();
-            LocalDate newPaymentDate = calculateNextPaymentDate(currentPaymentDate, subscription.getBillingCycle());
+    private void publishPage(List<SubscriptionAlertTarget> page,
+                             Function<SubscriptionAlertTarget, AlertType> alertTypeOf,
+                             AlertDispatchService.DispatchBatch batch,
+                             Map<AlertType, Long> sentCounts) {
+        List<SubscriptionAlertEvent> events = new ArrayList<>(page.size());
+        for (SubscriptionAlertTarget target : page) {
+            AlertType alertType = alertTypeOf.apply(target);
 
-            subscription.updateNextPaymentDate(newPaymentDate);
-            subscriptionService.save(subscription);
+            // 사용자별 알림 설정 확인
+            if (!shouldSendAlert(target, alertType)) {
+                continue; // 해당 알림이 비활성화된 경우 건너뛰기
+            }
 
-            log.info("💳 결제일 업데이트: {} - {} → {}",
-                    subscription.getName(), currentPaymentDate, newPaymentDate);
+            events.add(SubscriptionAlertEvent.builder()
+                    .subscriptionId(target.getSubscriptionId())
+                    .userEmail(target.getUserEmail())
+                    .serviceName(target.getServiceName())
+                    .alertDate(target.getNextPaymentDate())
+                    .alertType(alertType)
+                    .alertTypeDisplay(alertType.getDisplayName()) // D-7, D-3, D-1 형식으로 표시
+                    .build());
+            sentCounts.merge(alertType, 1L, Long::sum);
         }
 
-        log.info("📅 총 {}건의 구독 결제일 업데이트 완료", overdueSubscriptions.size());
+        // Kafka로 알림 이벤트 전송
+        batch.dispatch(events);
     }
 
-    private boolean shouldSendAlert(User user, AlertType alertType) {
+    private boolean shouldSendAlert(SubscriptionAlertTarget target, AlertType alertType) {
         // 전체 이메일 알림이 비활성화된 경우
-        if (!user.getIsEmailAlertEnabled()) {
+        if (!target.getIsEmailAlertEnabled()) {
             return false;
         }
         
         // 알림 타입별 개별 설정 확인
         return switch (alertType) {
-            case D_7 -> user.getEmailAlert7Days();
-            case D_3 -> user.getEmailAlert3Days();
-            case D_1 -> user.getEmailAlert1Day();
-            case D_DAY -> user.getEmailAlertDDay();
-        };
-    }
-
-    private LocalDate calculateNextPaymentDate(LocalDate currentDate, BillingCycle billingCycle) {
-        return switch (billingCycle) {
-            case MONTHLY -> currentDate.plusMonths(1);
-            case YEARLY -> currentDate.plusYears(1);
-            case WEEKLY -> currentDate.plusWeeks(1);
-            case CUSTOM -> currentDate.plusMonths(1); // CUSTOM의 경우 기본값으로 월간 처리
+            case D_7 -> target.getEmailAlert7Days();
+            case D_3 -> target.getEmailAlert3Days();
+            case D_1 -> target.getEmailAlert1Day();
+            case D_DAY -> target.getEmailAlertDDay();
         };
     }
 }
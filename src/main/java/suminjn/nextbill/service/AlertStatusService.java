@@ -1,18 +1,48 @@
 package suminjn.nextbill.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import suminjn.nextbill.domain.AlertStatus;
 import suminjn.nextbill.domain.enums.AlertType;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
 import suminjn.nextbill.repository.AlertStatusRepository;
 
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AlertStatusService {
 
+    private static final String FIND_SENT_SQL =
+            "SELECT subscription_id, alert_type, alert_date FROM alert_statuses " +
+            "WHERE (subscription_id, alert_date, alert_type) IN (:keys)";
+
+    private static final String FIND_SENT_BETWEEN_SQL =
+            "SELECT subscription_id, alert_type, alert_date FROM alert_statuses " +
+            "WHERE alert_date BETWEEN ? AND ? AND is_sent = TRUE";
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO alert_statuses (subscription_id, alert_date, alert_type, is_sent, sent_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
     private final AlertStatusRepository alertStatusRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     public boolean isAlreadySent(Long subscriptionId, LocalDate date, AlertType type) {
         return alertStatusRepository.existsBySubscription_SubscriptionIdAndAlertDateAndAlertType(subscriptionId, date, type);
@@ -21,4 +51,55 @@ public class AlertStatusService {
     public AlertStatus save(AlertStatus alertStatus) {
         return alertStatusRepository.save(alertStatus);
     }
+
+    // (subscription_id, alert_date, alert_type) 튜플 IN 조회 한 번으로 이미 전송된 알림 조회
+    public Set<SubscriptionAlertEvent> findAlreadySent(Collection<SubscriptionAlertEvent> events) {
+        Set<SubscriptionAlertEvent> sent = new HashSet<>();
+        if (events.isEmpty()) {
+            return sent;
+        }
+
+        Map<String, SubscriptionAlertEvent> eventsByKey = events.stream()
+                .collect(Collectors.toMap(SubscriptionAlertEvent::dedupKey, Function.identity(), (a, b) -> a));
+        List<Object[]> keys = events.stream()
+                .map(event -> new Object[]{event.getSubscriptionId(), Date.valueOf(event.getAlertDate()), event.getAlertType().name()})
+                .toList();
+
+        namedParameterJdbcTemplate.query(FIND_SENT_SQL, Map.of("keys", keys), rs -> {
+            SubscriptionAlertEvent event = eventsByKey.get(dedupKeyOf(rs));
+            if (event != null) {
+                sent.add(event);
+            }
+        });
+        return sent;
+    }
+
+    // 결제일이 from~to 사이인 전송 완료 알림의 중복 판별 키를 한 행씩 전달 (로컬 캐시 적재용)
+    public void forEachSentKey(LocalDate from, LocalDate to, Consumer<String> consumer) {
+        jdbcTemplate.query(FIND_SENT_BETWEEN_SQL, rs -> {
+            consumer.accept(dedupKeyOf(rs));
+        }, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    // 전송 완료 상태를 JDBC 배치 한 번으로 저장
+    public void saveAllSent(Collection<SubscriptionAlertEvent> events, LocalDateTime sentAt) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = events.stream()
+                .map(event -> new Object[]{
+                        event.getSubscriptionId(),
+                        Date.valueOf(event.getAlertDate()),
+                        event.getAlertType().name(),
+                        true,
+                        Timestamp.valueOf(sentAt)})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    // SubscriptionAlertEvent.dedupKey()와 같은 형식
+    private String dedupKeyOf(ResultSet rs) throws SQLException {
+        return rs.getLong("subscription_id") + ":" + rs.getString("alert_type") + ":" + rs.getDate("alert_date").toLocalDate();
+    }
 }
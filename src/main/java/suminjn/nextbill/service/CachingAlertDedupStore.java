@@ -0,0 +1,178 @@
+package suminjn.nextbill.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import suminjn.nextbill.domain.enums.AlertType;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 앞단의 프로세스 내 중복 방지 캐시 (app.alert.dedup.local-cache.enabled=true)
+ *
+ * 최근 전송 확인된 키를 LRU에 보관해 선점(tryClaim) 시 Redis 없이 바로 ALREADY_SENT로 응답한다.
+ * 선점은 원격에서만 가능하므로 "미전송" 판단은 항상 Redis에 맡긴다.
+ * 로컬 음성 캐시(Bloom filter 등)는 두지 않는다. 이 인스턴스가 본 키만 알기 때문에, Redis가 키를 잃었을 때
+ * 다른 인스턴스가 보낸 알림까지 "확실히 미전송"으로 답해 그 경우를 막는 alert_statuses 확인을 건너뛰게 된다.
+ *
+ * 시작 시 아직 지나지 않은 결제일의 전송 이력을 DB에서 적재해 재시작 직후의 재전달도 로컬에서 처리하고,
+ * 매일 지난 결제일의 키를 LRU에서 비운다.
+ */
+@Slf4j
+public class CachingAlertDedupStore implements AlertDedupStore {
+
+    private final AlertDedupStore delegate;
+    private final AlertStatusService alertStatusService;
+    private final Map<String, Boolean> recentlySent;
+
+    private final Counter lruHits;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final AtomicLong lruSize = new AtomicLong();
+
+    public CachingAlertDedupStore(AlertDedupStore delegate, AlertStatusService alertStatusService,
+                                  int lruCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.alertStatusService = alertStatusService;
+        this.recentlySent = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > lruCapacity;
+            }
+        });
+
+        this.lruHits = counter(meterRegistry, "lru_hit");
+        this.remoteHits = counter(meterRegistry, "remote_hit");
+        this.remoteMisses = counter(meterRegistry, "remote_miss");
+        meterRegistry.gauge("alert.dedup.local.lru.size", lruSize);
+    }
+
+    @Override
+    public void markAsSent(SubscriptionAlertEvent event) {
+        delegate.markAsSent(event);
+        remember(event.dedupKey());
+    }
+
+    @Override
+    public void markAllAsSent(Collection<SubscriptionAlertEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        delegate.markAllAsSent(events);
+        for (SubscriptionAlertEvent event : events) {
+            remember(event.dedupKey());
+        }
+    }
+
+    // 최근 전송 확인된 키는 로컬에서 ALREADY_SENT로 응답
+    @Override
+    public ClaimResult tryClaim(SubscriptionAlertEvent event) {
+        if (recentlySent.get(event.dedupKey()) != null) {
+            lruHits.increment();
+            return ClaimResult.ALREADY_SENT;
+        }
+        ClaimResult result = delegate.tryClaim(event);
+        recordClaim(event, result);
+        return result;
+    }
+
+    @Override
+    public Map<SubscriptionAlertEvent, ClaimResult> tryClaimAll(List<SubscriptionAlertEvent> events) {
+        Map<SubscriptionAlertEvent, ClaimResult> results = new LinkedHashMap<>();
+        List<SubscriptionAlertEvent> remote = new ArrayList<>();
+        for (SubscriptionAlertEvent event : events) {
+            if (recentlySent.get(event.dedupKey()) != null) {
+                lruHits.increment();
+                results.put(event, ClaimResult.ALREADY_SENT);
+            } else {
+                remote.add(event);
+            }
+        }
+        if (!remote.isEmpty()) {
+            delegate.tryClaimAll(remote).forEach((event, result) -> {
+                recordClaim(event, result);
+                results.put(event, result);
+            });
+        }
+        return results;
+    }
+
+    @Override
+    public void markAllFailed(Collection<SubscriptionAlertEvent> events) {
+        delegate.markAllFailed(events);
+    }
+
+    @Override
+    public void renewClaims(Collection<SubscriptionAlertEvent> events) {
+        delegate.renewClaims(events);
+    }
+
+    /**
+     * 아직 지나지 않은 결제일(오늘 ~ 오늘 + 7일)의 전송 이력을 로컬 캐시에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        LocalDate today = LocalDate.now();
+        AtomicLong loaded = new AtomicLong();
+        try {
+            alertStatusService.forEachSentKey(today, today.plusDays(maxDaysBefore()), key -> {
+                remember(key);
+                loaded.incrementAndGet();
+            });
+            log.info("🔥 알림 중복 방지 로컬 캐시 적재 완료: {}건", loaded.get());
+        } catch (Exception e) {
+            log.warn("⚠️ 알림 중복 방지 로컬 캐시 적재 실패 (Redis 조회로 동작): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 결제일이 지난 키를 LRU에서 비운다
+     */
+    @Scheduled(cron = "0 5 0 * * *")
+    public void evictPastDates() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        alertStatusService.forEachSentKey(yesterday, yesterday, recentlySent::remove);
+        lruSize.set(recentlySent.size());
+        log.info("🧹 알림 중복 방지 로컬 캐시 정리: {} 결제일", yesterday);
+    }
+
+    private void recordClaim(SubscriptionAlertEvent event, ClaimResult result) {
+        if (result == ClaimResult.ALREADY_SENT) {
+            remoteHits.increment();
+            remember(event.dedupKey());
+        } else {
+            remoteMisses.increment();
+        }
+    }
+
+    private void remember(String key) {
+        recentlySent.put(key, Boolean.TRUE);
+        lruSize.set(recentlySent.size());
+    }
+
+    private int maxDaysBefore() {
+        int max = 0;
+        for (AlertType alertType : AlertType.values()) {
+            max = Math.max(max, alertType.getDaysBefore());
+        }
+        return max;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("alert.dedup.local")
+                .description("알림 중복 방지 로컬 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
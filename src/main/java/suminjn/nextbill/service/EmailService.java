@@ -4,78 +4,94 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
-import suminjn.nextbill.domain.Notification;
-import suminjn.nextbill.domain.User;
+import suminjn.nextbill.dto.AlertDigest;
 import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.exception.EmailDeliveryException;
+import suminjn.nextbill.mail.MailContent;
+import suminjn.nextbill.mail.MailTemplateEngine;
+import suminjn.nextbill.mail.PooledMailSender;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    // classpath:mail-templates/ 템플릿 이름
+    private static final String ALERT_TEMPLATE = "alert";
+    private static final String DIGEST_TEMPLATE = "alert-digest";
+    private static final String TEST_TEMPLATE = "test-email";
+
+    // SMTP 연결을 재사용하는 발송기 (app.mail.pool.*)
+    private final PooledMailSender mailSender;
+    private final MailTemplateEngine templateEngine;
     private final Environment environment;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
 
+    // 발송 실패 시 EmailDeliveryException (호출자가 재시도 토픽으로 넘긴다)
     public void sendAlert(SubscriptionAlertEvent event) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(event.getUserEmail());
-            message.setSubject("[NextBill] 구독 결제 알림 - " + event.getServiceName());
-            message.setText(buildMessage(event));
-            message.setFrom(fromEmail);
-
-            mailSender.send(message);
+            mailSender.send(buildAlertMessage(event));
             log.info("✅ 이메일 전송 완료: {}", event.getUserEmail());
         } catch (Exception e) {
-            log.error("❌ 이메일 전송 실패: {}", event, e);
+            throw new EmailDeliveryException("이메일 전송 실패: " + event.dedupKey(), e);
         }
     }
 
-    private String buildMessage(SubscriptionAlertEvent event) {
-        return String.format("안녕하세요.\n\n다음 구독 결제가 예정되어 있습니다:\n\n서비스명: %s\n결제 예정일: %s (%s)\n\n감사합니다.\n- NextBill",
-                event.getServiceName(),
-                event.getAlertDate(),
-                event.getAlertTypeDisplay()); // D-7, D-3, D-1 형식으로 표시
+    /**
+     * 여러 알림을 열린 SMTP 연결들에 나눠 이어서 발송한다.
+     *
+     * @return 발송에 실패한 알림과 원인
+     */
+    public Map<SubscriptionAlertEvent, Exception> sendAlerts(Collection<SubscriptionAlertEvent> events) {
+        Map<SubscriptionAlertEvent, Exception> failures = mailSender.sendAll(events, this::buildAlertMessage);
+        log.info("✅ 이메일 일괄 전송: 성공 {}건, 실패 {}건", events.size() - failures.size(), failures.size());
+        return failures;
     }
 
-    public void sendPaymentNotificationEmail(User user, Notification notification) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(user.getEmail());
-            message.setSubject("NextBill - 구독 결제 알림");
-            message.setText(buildEmailContent(notification));
-            message.setFrom(fromEmail);
-
-            mailSender.send(message);
-            log.info("이메일 알림 발송 완료 - 사용자: {}, 메시지: {}", user.getEmail(), notification.getMessage());
-        } catch (Exception e) {
-            log.error("이메일 발송 실패 - 사용자: {}, 오류: {}", user.getEmail(), e.getMessage());
-        }
+    /**
+     * 사용자별 알림 다이제스트를 한 통씩 발송한다.
+     *
+     * @return 발송에 실패한 다이제스트와 원인
+     */
+    public Map<AlertDigest, Exception> sendDigests(Collection<AlertDigest> digests) {
+        return mailSender.sendAll(digests, this::buildDigestMessage);
     }
 
-    private String buildEmailContent(Notification notification) {
-        StringBuilder content = new StringBuilder();
-        content.append("안녕하세요,\n\n");
-        content.append(notification.getMessage()).append("\n\n");
-
-        if (notification.getSubscription() != null) {
-            content.append("구독 정보:\n");
-            content.append("- 서비스명: ").append(notification.getSubscription().getName()).append("\n");
-            content.append("- 결제 금액: ₩").append(notification.getSubscription().getCost().toString()).append("\n");
-            content.append("- 다음 결제일: ").append(notification.getSubscription().getNextPaymentDate().toString()).append("\n\n");
+    private MailContent buildDigestMessage(AlertDigest digest) {
+        List<SubscriptionAlertEvent> events = digest.getEvents();
+        if (events.size() == 1) {
+            return buildAlertMessage(events.get(0));
         }
 
-        content.append("NextBill에서 구독을 효율적으로 관리하세요.\n");
-        content.append("감사합니다.\n\n");
-        content.append("NextBill 팀");
+        List<Map<String, Object>> items = events.stream()
+                .sorted(Comparator.comparing(SubscriptionAlertEvent::getAlertDate)
+                        .thenComparing(SubscriptionAlertEvent::getServiceName))
+                .map(this::alertModel)
+                .toList();
+        return templateEngine.render(DIGEST_TEMPLATE, fromEmail, digest.getUserEmail(),
+                Map.of("count", events.size(), "items", items));
+    }
 
-        return content.toString();
+    private MailContent buildAlertMessage(SubscriptionAlertEvent event) {
+        return templateEngine.render(ALERT_TEMPLATE, fromEmail, event.getUserEmail(), alertModel(event));
+    }
+
+    private Map<String, Object> alertModel(SubscriptionAlertEvent event) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("serviceName", event.getServiceName());
+        model.put("alertDate", event.getAlertDate());
+        model.put("alertTypeDisplay", event.getAlertTypeDisplay()); // D-7, D-3, D-1 형식으로 표시
+        return model;
     }
 
     // 테스트용 이메일 발송 메서드 (개발 환경에서만 사용)
@@ -87,13 +103,13 @@ public class EmailService {
         }
         
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(toEmail);
-            message.setSubject("NextBill - 이메일 발송 테스트");
-            message.setText(buildTestEmailContent(testMessage));
-            message.setFrom(fromEmail);
+            Map<String, Object> model = new HashMap<>();
+            if (testMessage != null && !testMessage.trim().isEmpty()) {
+                model.put("testMessage", testMessage);
+            }
+            model.put("now", LocalDateTime.now());
 
-            mailSender.send(message);
+            mailSender.send(templateEngine.render(TEST_TEMPLATE, fromEmail, toEmail, model));
             log.info("✅ 테스트 이메일 전송 완료: {}", toEmail);
         } catch (Exception e) {
             log.error("❌ 테스트 이메일 전송 실패: {}", toEmail, e);
@@ -110,21 +126,4 @@ public class EmailService {
         }
         return false;
     }
-
-    private String buildTestEmailContent(String testMessage) {
-        StringBuilder content = new StringBuilder();
-        content.append("안녕하세요!\n\n");
-        content.append("NextBill 이메일 발송 기능이 정상적으로 작동하고 있습니다.\n\n");
-
-        if (testMessage != null && !testMessage.trim().isEmpty()) {
-            content.append("테스트 메시지: ").append(testMessage).append("\n\n");
-        }
-
-        content.append("현재 시간: ").append(java.time.LocalDateTime.now().toString()).append("\n\n");
-        content.append("NextBill에서 구독을 효율적으로 관리하세요.\n");
-        content.append("감사합니다.\n\n");
-        content.append("NextBill 팀");
-
-        return content.toString();
-    }
 }
@@ -0,0 +1,131 @@
+package suminjn.nextbill.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 읽은 알림 보관 기간 정리
+ *
+ * read_at이 보관 기간(app.notification.retention.days)을 지난 읽은 알림을 chunk-size건씩 지우고,
+ * 청크 사이에 pause-ms만큼 쉬어 복제 지연과 잠금 경합을 막는다. 한 번 실행은 max-duration-ms를 넘기지 않으며
+ * 남은 행은 다음 실행에서 이어서 지운다.
+ * archive.enabled이면 지우기 전에 각 청크를 gzip 압축 JSON Lines 파일에 먼저 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionService {
+
+    private static final String SELECT_CHUNK_SQL =
+            "SELECT notification_id, user_id, subscription_id, message, type, priority, days_until, read_at, created_at " +
+            "FROM notifications WHERE is_read = TRUE AND read_at < ? ORDER BY read_at, notification_id LIMIT ?";
+
+    private static final String DELETE_CHUNK_SQL =
+            "DELETE FROM notifications WHERE notification_id IN (:ids)";
+
+    private static final DateTimeFormatter ARCHIVE_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.notification.retention.days:30}")
+    private int retentionDays;
+
+    @Value("${app.notification.retention.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.notification.retention.pause-ms:200}")
+    private long pauseMs;
+
+    @Value("${app.notification.retention.max-duration-ms:1800000}")
+    private long maxDurationMs;
+
+    @Value("${app.notification.retention.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${app.notification.retention.archive.directory:./archive/notifications}")
+    private String archiveDirectory;
+
+    /**
+     * @return 삭제한 알림 수
+     */
+    public long purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxDurationMs * 1_000_000L;
+        long purged = 0;
+
+        try (OutputStream archive = archiveEnabled ? openArchive() : null) {
+            while (System.nanoTime() < deadline) {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_CHUNK_SQL, Timestamp.valueOf(cutoff), chunkSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                // 보관 파일에 먼저 기록한 뒤 같은 행만 지운다
+                if (archive != null) {
+                    writeArchive(archive, rows);
+                }
+                List<Long> ids = new ArrayList<>(rows.size());
+                for (Map<String, Object> row : rows) {
+                    ids.add(((Number) row.get("notification_id")).longValue());
+                }
+                purged += namedParameterJdbcTemplate.update(DELETE_CHUNK_SQL, Map.of("ids", ids));
+
+                if (rows.size() < chunkSize) {
+                    break;
+                }
+                Thread.sleep(pauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("읽은 알림 정리가 중단되었습니다.");
+        } catch (IOException | UncheckedIOException e) {
+            log.error("❌ 읽은 알림 보관 파일 기록 실패, 정리를 중단합니다", e);
+        }
+
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+        log.info("🧹 읽은 알림 정리: {}건 삭제 ({}일 이전, {}초, {}건/초)",
+                purged, retentionDays, String.format("%.1f", seconds), String.format("%.0f", purged / seconds));
+        return purged;
+    }
+
+    private OutputStream openArchive() throws IOException {
+        Path directory = Path.of(archiveDirectory);
+        Files.createDirectories(directory);
+        Path file = directory.resolve("notifications-" + LocalDateTime.now().format(ARCHIVE_FILE_TIME) + ".jsonl.gz");
+        log.info("읽은 알림 보관 파일: {}", file);
+        return new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024, true);
+    }
+
+    private void writeArchive(OutputStream archive, List<Map<String, Object>> rows) throws IOException {
+        for (Map<String, Object> row : rows) {
+            Map<String, Object> record = new LinkedHashMap<>(row);
+            record.replaceAll((column, value) -> value instanceof Timestamp timestamp ? timestamp.toLocalDateTime().toString() : value);
+            archive.write(objectMapper.writeValueAsBytes(record));
+            archive.write('\n');
+        }
+        // 삭제 전에 압축 버퍼를 파일로 내려 보낸다
+        archive.flush();
+    }
+}
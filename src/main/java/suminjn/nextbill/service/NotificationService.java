@@ -2,23 +2,42 @@ package suminjn.nextbill.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import suminjn.nextbill.domain.Notification;
 import suminjn.nextbill.domain.Subscription;
 import suminjn.nextbill.domain.User;
+import suminjn.nextbill.domain.enums.AlertType;
 import suminjn.nextbill.domain.enums.NotificationPriority;
 import suminjn.nextbill.domain.enums.NotificationType;
+import suminjn.nextbill.dto.NotificationCursor;
+import suminjn.nextbill.dto.NotificationFeedResponseDto;
 import suminjn.nextbill.dto.NotificationRequestDto;
 import suminjn.nextbill.dto.NotificationResponseDto;
+import suminjn.nextbill.dto.NotificationStreamEvent;
+import suminjn.nextbill.dto.NotificationsCreatedEvent;
+import suminjn.nextbill.dto.PaymentNotificationTarget;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
 import suminjn.nextbill.exception.EntityNotFoundException;
 import suminjn.nextbill.repository.NotificationRepository;
 import suminjn.nextbill.repository.SubscriptionRepository;
 import suminjn.nextbill.repository.UserRepository;
+import suminjn.nextbill.scheduler.ShardAssignment;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,10 +46,31 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class NotificationService {
 
+    private static final String INSERT_PAYMENT_NOTIFICATION_SQL =
+            "INSERT INTO notifications (user_id, subscription_id, message, type, priority, is_read, days_until, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, FALSE, ?, ?, ?)";
+
+    private static final List<PaymentNotificationRule> PAYMENT_NOTIFICATION_RULES = List.of(
+            new PaymentNotificationRule(7, NotificationType.PAYMENT_DUE, NotificationPriority.LOW, 7, AlertType.D_7),
+            new PaymentNotificationRule(3, NotificationType.PAYMENT_DUE, NotificationPriority.MEDIUM, 3, AlertType.D_3),
+            new PaymentNotificationRule(1, NotificationType.PAYMENT_DUE, NotificationPriority.HIGH, 1, AlertType.D_1),
+            new PaymentNotificationRule(0, NotificationType.PAYMENT_TODAY, NotificationPriority.HIGH, 0, null),
+            new PaymentNotificationRule(-1, NotificationType.PAYMENT_OVERDUE, NotificationPriority.HIGH, 1, null));
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final SubscriptionRepository subscriptionRepository;
-    private final EmailService emailService;
+    private final OutboxService outboxService;
+    private final NotificationUnreadCounter unreadCounter;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.notification.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.notification.feed.max-page-size:100}")
+    private int maxFeedPageSize;
 
     // 사용자별 알림 조회
     public List<NotificationResponseDto> getNotifications(Long userId) {
@@ -43,12 +83,47 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
-    // 읽지 않은 알림 개수 조회
+    // 커서 기반 알림 피드 조회 (최신순, size + 1건을 읽어 다음 페이지 여부 판단)
+    public NotificationFeedResponseDto getNotificationFeed(Long userId, String cursor, int size, boolean unreadOnly) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+
+        int pageSize = Math.max(1, Math.min(size, maxFeedPageSize));
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<NotificationResponseDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = unreadOnly
+                    ? notificationRepository.findUnreadFeed(userId, page)
+                    : notificationRepository.findFeed(userId, page);
+        } else {
+            NotificationCursor after = NotificationCursor.decode(cursor);
+            rows = unreadOnly
+                    ? notificationRepository.findUnreadFeedAfter(userId, after.getCreatedAt(), after.getNotificationId(), page)
+                    : notificationRepository.findFeedAfter(userId, after.getCreatedAt(), after.getNotificationId(), page);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<NotificationResponseDto> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? NotificationCursor.of(items.get(items.size() - 1)).encode() : null;
+        return new NotificationFeedResponseDto(items, nextCursor, hasNext);
+    }
+
+    // 읽지 않은 알림 개수 조회 (Redis 카운터 우선, 없으면 DB COUNT 후 카운터를 채움)
+    // 카운터 적중 시 DB 커넥션을 잡지 않도록 트랜잭션을 열지 않는다 (미스일 때만 리포지토리 호출이 각자 연다)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long getUnreadCount(Long userId) {
+        Long cached = unreadCounter.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
-        return notificationRepository.countByUserAndIsReadFalse(user);
+        long unreadCount = notificationRepository.countByUserAndIsReadFalse(user);
+        unreadCounter.prime(userId, unreadCount);
+        return unreadCount;
     }
 
     // 알림 읽음 처리
@@ -62,19 +137,35 @@ public class NotificationService {
             throw new IllegalArgumentException("본인의 알림만 읽음 처리할 수 있습니다.");
         }
 
+        if (!notification.getIsRead()) {
+            unreadCounter.adjust(userId, -1);
+        }
         notification.markAsRead();
         notificationRepository.save(notification);
     }
 
-    // 모든 알림 읽음 처리
+    // 모든 알림 읽음 처리 (UPDATE 한 번)
     @Transactional
-    public void markAllAsRead(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+    public int markAllAsRead(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+
+        int updated = notificationRepository.markAllAsRead(userId, LocalDateTime.now());
+        unreadCounter.adjust(userId, -updated);
+        return updated;
+    }
+
+    // 지정한 알림 읽음 처리 (본인 알림 중 읽지 않은 것만, UPDATE 한 번)
+    @Transactional
+    public int markNotificationsAsRead(Long userId, Collection<Long> notificationIds) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
 
-        List<Notification> unreadNotifications = notificationRepository.findByUserAndIsReadFalseOrderByCreatedAtDesc(user);
-        unreadNotifications.forEach(Notification::markAsRead);
-        notificationRepository.saveAll(unreadNotifications);
+        int updated = notificationRepository.markAsReadByIds(userId, notificationIds, LocalDateTime.now());
+        unreadCounter.adjust(userId, -updated);
+        return updated;
     }
 
     // 알림 삭제
@@ -88,16 +179,35 @@ public class NotificationService {
             throw new IllegalArgumentException("본인의 알림만 삭제할 수 있습니다.");
         }
 
+        if (!notification.getIsRead()) {
+            unreadCounter.adjust(userId, -1);
+        }
         notificationRepository.delete(notification);
     }
 
-    // 모든 알림 삭제
+    // 지정한 알림 삭제 (본인 알림만)
+    // 읽지 않은 알림과 읽은 알림을 나눠 지워 카운터를 다시 세지 않고 정확히 줄인다
+    @Transactional
+    public int deleteNotifications(Long userId, Collection<Long> notificationIds) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+
+        int deletedUnread = notificationRepository.deleteByIds(userId, notificationIds, false);
+        int deletedRead = notificationRepository.deleteByIds(userId, notificationIds, true);
+        unreadCounter.adjust(userId, -deletedUnread);
+        return deletedUnread + deletedRead;
+    }
+
+    // 모든 알림 삭제 (DELETE 한 번)
     @Transactional
     public void clearAllNotifications(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
 
-        notificationRepository.deleteAllByUser(user);
+        notificationRepository.deleteAllByUserId(userId);
+        unreadCounter.evict(userId);
     }
 
     // 알림 생성
@@ -123,102 +233,135 @@ public class NotificationService {
                 .build();
 
         notification = notificationRepository.save(notification);
-        return NotificationResponseDto.from(notification);
+        unreadCounter.adjust(userId, 1);
+
+        NotificationResponseDto response = NotificationResponseDto.from(notification);
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(List.of(NotificationStreamEvent.created(userId, response))));
+        return response;
     }
 
-    // 구독 결제일 기반 알림 생성 (스케줄러에서 호출)
-    @Transactional
+    // 구독 결제일 기반 알림 생성 (관리자 요청, 전체 구독 대상)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void createPaymentNotifications() {
-        log.info("결제일 기반 알림 생성 시작");
+        createPaymentNotifications(ShardAssignment.all());
+    }
 
-        LocalDate today = LocalDate.now();
-        List<Subscription> subscriptions = subscriptionRepository.findByIsPausedFalse();
+    /**
+     * 구독 결제일 기반 알림 생성 (스케줄러에서 호출, 담당 샤드만)
+     * D-7/D-3/D-1/D-Day/연체 1일에 해당하는 결제일만 IN 조건으로 조회해 사용자 컬럼과 함께 키셋 페이지로 읽고,
+     * 페이지마다 짧은 트랜잭션 하나에서 알림 행을 JDBC 배치로 삽입하고 이메일 알림 이벤트를 outbox에 기록한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void createPaymentNotifications(ShardAssignment assignment) {
+        log.info("결제일 기반 알림 생성 시작 - 샤드: {}", assignment);
 
-        for (Subscription subscription : subscriptions) {
-            LocalDate nextPaymentDate = subscription.getNextPaymentDate();
-            long daysUntil = ChronoUnit.DAYS.between(today, nextPaymentDate);
+        LocalDate today = LocalDate.now();
+        Map<LocalDate, PaymentNotificationRule> rulesByDate = new HashMap<>();
+        for (PaymentNotificationRule rule : PAYMENT_NOTIFICATION_RULES) {
+            rulesByDate.put(today.plusDays(rule.offsetDays()), rule);
+        }
 
-            // 7일 전 알림
-            if (daysUntil == 7) {
-                createPaymentNotification(subscription, NotificationType.PAYMENT_DUE, 
-                    NotificationPriority.LOW, (int) daysUntil);
-            }
-            // 3일 전 알림
-            else if (daysUntil == 3) {
-                createPaymentNotification(subscription, NotificationType.PAYMENT_DUE, 
-                    NotificationPriority.MEDIUM, (int) daysUntil);
-            }
-            // 1일 전 알림
-            else if (daysUntil == 1) {
-                createPaymentNotification(subscription, NotificationType.PAYMENT_DUE, 
-                    NotificationPriority.HIGH, (int) daysUntil);
-            }
-            // 오늘 결제 알림
-            else if (daysUntil == 0) {
-                createPaymentNotification(subscription, NotificationType.PAYMENT_TODAY, 
-                    NotificationPriority.HIGH, (int) daysUntil);
+        long total = 0;
+        Long lastId = 0L;
+        PageRequest limit = PageRequest.of(0, chunkSize);
+        while (true) {
+            List<PaymentNotificationTarget> page = subscriptionRepository.findPaymentNotificationTargetsAfter(
+                    rulesByDate.keySet(), assignment.getShardCount(), assignment.getShards(), lastId, limit);
+            if (page.isEmpty()) {
+                break;
             }
-            // 결제일 지남 알림 (1일 후)
-            else if (daysUntil == -1) {
-                createPaymentNotification(subscription, NotificationType.PAYMENT_OVERDUE, 
-                    NotificationPriority.HIGH, (int) Math.abs(daysUntil));
+
+            transactionTemplate.executeWithoutResult(status -> insertPaymentNotifications(page, rulesByDate));
+            total += page.size();
+
+            if (page.size() < chunkSize) {
+                break;
             }
+            lastId = page.get(page.size() - 1).getSubscriptionId();
         }
 
-        log.info("결제일 기반 알림 생성 완료");
+        log.info("결제일 기반 알림 생성 완료: {}건", total);
     }
 
-    private void createPaymentNotification(Subscription subscription, NotificationType type, 
-                                         NotificationPriority priority, int daysUntil) {
-        User user = subscription.getUser();
-        
-        // 사용자의 이메일 설정 확인
-        boolean shouldSendEmail = shouldSendEmailForDaysUntil(user, daysUntil);
-        
-        String message = generatePaymentMessage(subscription, type, daysUntil);
+    private void insertPaymentNotifications(List<PaymentNotificationTarget> page,
+                                            Map<LocalDate, PaymentNotificationRule> rulesByDate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(page.size());
+        List<SubscriptionAlertEvent> emailEvents = new ArrayList<>();
+        Map<Long, Long> unreadDeltas = new HashMap<>();
 
-        Notification notification = Notification.builder()
-                .user(user)
-                .subscription(subscription)
-                .message(message)
-                .type(type)
-                .priority(priority)
-                .daysUntil(daysUntil)
-                .isRead(false)
-                .build();
+        for (PaymentNotificationTarget target : page) {
+            PaymentNotificationRule rule = rulesByDate.get(target.getNextPaymentDate());
+            rows.add(new Object[]{
+                    target.getUserId(),
+                    target.getSubscriptionId(),
+                    generatePaymentMessage(target.getServiceName(), rule.type(), rule.daysUntil()),
+                    rule.type().name(),
+                    rule.priority().name(),
+                    rule.daysUntil(),
+                    now,
+                    now});
+            unreadDeltas.merge(target.getUserId(), 1L, Long::sum);
 
-        notification = notificationRepository.save(notification);
-        log.info("알림 생성: {} - {}", subscription.getName(), message);
-        
-        // 이메일 설정에 따라 이메일 발송
-        if (shouldSendEmail && user.getIsEmailAlertEnabled()) {
-            emailService.sendPaymentNotificationEmail(user, notification);
-        }
-    }
-    
-    private boolean shouldSendEmailForDaysUntil(User user, int daysUntil) {
-        switch (daysUntil) {
-            case 7:
-                return user.getEmailAlert7Days();
-            case 3:
-                return user.getEmailAlert3Days();
-            case 1:
-                return user.getEmailAlert1Day();
-            default:
-                return false; // 다른 일수에 대해서는 이메일 발송하지 않음
+            // 이메일 설정에 따라 이메일 발송
+            // 트랜잭션 안에서 메일을 보내지 않고 같은 트랜잭션으로 outbox에 기록한다 (알림 소비자가 발송·중복 제거·다이제스트 처리)
+            if (rule.alertType() != null && shouldSendEmail(target, rule.alertType())) {
+                emailEvents.add(SubscriptionAlertEvent.builder()
+                        .subscriptionId(target.getSubscriptionId())
+                        .userEmail(target.getUserEmail())
+                        .serviceName(target.getServiceName())
+                        .alertType(rule.alertType())
+                        .alertTypeDisplay(rule.alertType().getDisplayName())
+                        .alertDate(target.getNextPaymentDate())
+                        .build());
+            }
         }
+
+        // rewriteBatchedStatements=true 로 다중 행 INSERT로 묶여 전송된다
+        jdbcTemplate.batchUpdate(INSERT_PAYMENT_NOTIFICATION_SQL, rows);
+        outboxService.appendAlerts(emailEvents);
+        unreadCounter.adjustAll(unreadDeltas);
+
+        // 배치 삽입은 알림 ID를 돌려받지 않으므로 사용자별로 새로고침 신호와 증가량만 보낸다
+        List<NotificationStreamEvent> streamEvents = new ArrayList<>(unreadDeltas.size());
+        unreadDeltas.forEach((userId, delta) -> streamEvents.add(NotificationStreamEvent.refresh(userId, delta)));
+        eventPublisher.publishEvent(new NotificationsCreatedEvent(streamEvents));
     }
 
-    private String generatePaymentMessage(Subscription subscription, NotificationType type, int daysUntil) {
+    // 알림 이벤트는 스케줄러가 발행한 같은 구독·타입 알림과 dedupKey로 한 번만 발송된다 (D-Day는 이메일 대상 아님)
+    private boolean shouldSendEmail(PaymentNotificationTarget target, AlertType alertType) {
+        if (!target.getIsEmailAlertEnabled()) {
+            return false;
+        }
+        return switch (alertType) {
+            case D_7 -> target.getEmailAlert7Days();
+            case D_3 -> target.getEmailAlert3Days();
+            case D_1 -> target.getEmailAlert1Day();
+            case D_DAY -> false; // 다른 일수에 대해서는 이메일 발송하지 않음
+        };
+    }
+
+    private String generatePaymentMessage(String serviceName, NotificationType type, int daysUntil) {
         switch (type) {
             case PAYMENT_DUE:
-                return String.format("%s 구독이 %d일 후 결제됩니다.", subscription.getName(), daysUntil);
+                return String.format("%s 구독이 %d일 후 결제됩니다.", serviceName, daysUntil);
             case PAYMENT_TODAY:
-                return String.format("%s 구독이 오늘 결제됩니다.", subscription.getName());
+                return String.format("%s 구독이 오늘 결제됩니다.", serviceName);
             case PAYMENT_OVERDUE:
-                return String.format("%s 구독 결제일이 지났습니다.", subscription.getName());
+                return String.format("%s 구독 결제일이 지났습니다.", serviceName);
             default:
-                return String.format("%s 구독 관련 알림", subscription.getName());
+                return String.format("%s 구독 관련 알림", serviceName);
         }
     }
+
+    /**
+     * 결제일까지 남은 일수별 알림 규칙
+     *
+     * @param offsetDays 오늘 기준 결제일 (음수면 지난 결제일)
+     * @param daysUntil  알림에 기록하는 일수 (연체는 지난 일수)
+     * @param alertType  이메일 알림 타입 (이메일 대상이 아니면 null)
+     */
+    private record PaymentNotificationRule(int offsetDays, NotificationType type, NotificationPriority priority,
+                                           int daysUntil, AlertType alertType) {
+    }
 }
@@ -0,0 +1,195 @@
+package suminjn.nextbill.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import suminjn.nextbill.dto.NotificationStreamEvent;
+import suminjn.nextbill.dto.NotificationsCreatedEvent;
+import suminjn.nextbill.exception.EntityNotFoundException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실시간 알림 SSE 채널
+ *
+ * 커밋된 알림 생성은 Redis 채널 notification:stream 으로 발행하고, 모든 노드가 구독해
+ * 자기 노드에 연결된 사용자에게만 전달한다 (어느 노드에 연결되어 있어도 받을 수 있음).
+ * SseEmitter는 서블릿 비동기 요청이라 연결을 유지하는 동안 요청 스레드도 DB 커넥션도 잡지 않는다.
+ * 유휴 연결은 heartbeat 주석 한 줄로만 유지하며, 실패한 연결은 그때 정리한다.
+ *
+ * EventSource는 헤더를 지정할 수 없으므로 JWT 대신 인증된 요청으로 발급한 일회용 티켓(짧은 TTL)을
+ * 쿼리로 받아 연결 시 소비한다. URL이 로그에 남아도 이미 쓰였거나 곧 만료되는 값만 노출된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationStreamService {
+
+    public static final String CHANNEL = "notification:stream";
+
+    private static final String TICKET_KEY_PREFIX = "notification:stream:ticket:";
+
+    // OSIV 세션에 커넥션이 묶이지 않도록 JPA 대신 JDBC로 조회 (연결이 열려 있는 동안 커넥션을 점유하지 않음)
+    private static final String FIND_USER_ID_SQL = "SELECT user_id FROM users WHERE email = ?";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, Queue<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    @Value("${app.notification.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.notification.stream.reconnect-ms:3000}")
+    private long reconnectMs;
+
+    @Value("${app.notification.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${app.notification.stream.ticket-ttl-ms:30000}")
+    private long ticketTtlMs;
+
+    // 토큰의 이메일로 사용자를 찾아 스트림 연결용 일회용 티켓 발급
+    public String issueTicket(String email) {
+        List<Long> userIds = jdbcTemplate.queryForList(FIND_USER_ID_SQL, Long.class, email);
+        if (userIds.isEmpty()) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+
+        String ticket = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(TICKET_KEY_PREFIX + ticket, String.valueOf(userIds.get(0)),
+                Duration.ofMillis(ticketTtlMs));
+        return ticket;
+    }
+
+    // 티켓을 소비(GETDEL)해 사용자를 확인하고 SSE 연결을 등록
+    public SseEmitter connect(String ticket) {
+        String value = redisTemplate.opsForValue().getAndDelete(TICKET_KEY_PREFIX + ticket);
+        if (value == null) {
+            throw new IllegalArgumentException("유효하지 않거나 만료된 스트림 티켓입니다.");
+        }
+        Long userId = Long.valueOf(value);
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        List<SseEmitter> evicted = new ArrayList<>();
+        emittersByUser.compute(userId, (id, emitters) -> {
+            Queue<SseEmitter> queue = emitters != null ? emitters : new ConcurrentLinkedQueue<>();
+            queue.add(emitter);
+            connectionCount.incrementAndGet();
+            // 탭을 많이 연 사용자는 가장 오래된 연결부터 닫는다
+            while (queue.size() > maxConnectionsPerUser) {
+                evicted.add(queue.poll());
+                connectionCount.decrementAndGet();
+            }
+            return queue;
+        });
+        evicted.forEach(SseEmitter::complete);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(userId, emitter));
+
+        try {
+            emitter.send(SseEmitter.event().name("connected").reconnectTime(reconnectMs).data(userId));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    // 커밋된 알림 생성만 Redis로 발행 (트랜잭션 밖에서 생성된 경우 바로 발행)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsCreated(NotificationsCreatedEvent event) {
+        if (event.getEvents().isEmpty()) {
+            return;
+        }
+        try {
+            byte[] channel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+            List<byte[]> messages = new ArrayList<>(event.getEvents().size());
+            for (NotificationStreamEvent streamEvent : event.getEvents()) {
+                messages.add(objectMapper.writeValueAsBytes(streamEvent));
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                messages.forEach(message -> connection.publish(channel, message));
+                return null;
+            });
+        } catch (Exception e) {
+            // 실시간 전달은 부가 기능이라 실패해도 알림 생성에는 영향을 주지 않는다 (클라이언트 새로고침으로 복구)
+            log.warn("⚠️ 실시간 알림 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    // Redis 채널 메시지를 이 노드에 연결된 사용자에게 전달
+    public void deliver(String message) {
+        NotificationStreamEvent event;
+        try {
+            event = objectMapper.readValue(message, NotificationStreamEvent.class);
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ 실시간 알림 메시지 해석 실패: {}", e.getMessage());
+            return;
+        }
+
+        Queue<SseEmitter> emitters = emittersByUser.get(event.getUserId());
+        if (emitters == null) {
+            return; // 다른 노드에 연결된 사용자
+        }
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name(event.getType()).data(event));
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+                remove(event.getUserId(), emitter);
+            }
+        }
+    }
+
+    // 프록시 유휴 타임아웃 방지 및 끊긴 연결 정리
+    @Scheduled(fixedDelayString = "${app.notification.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        emittersByUser.forEach((userId, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                    remove(userId, emitter);
+                }
+            }
+        });
+        log.debug("💓 SSE heartbeat - 연결 수: {}", connectionCount.get());
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emittersByUser.computeIfPresent(userId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                connectionCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
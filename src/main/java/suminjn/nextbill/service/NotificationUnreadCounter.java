@@ -0,0 +1,215 @@
+package suminjn.nextbill.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import suminjn.nextbill.repository.NotificationRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 카운터 (notification:unread:{userId})
+ *
+ * 알림 생성·읽음·삭제가 커밋된 직후 Lua 스크립트로 증감하고, 0 아래로는 내려가지 않는다.
+ * 키가 없으면 증감하지 않고 다음 조회 때 DB COUNT로 다시 채우므로, 카운터가 없는 사용자는 처음 한 번만 COUNT를 실행한다.
+ * 증감 누락(Redis 장애, 채우기와 증감의 경합)은 주기적인 reconcile이 DB와 비교해 바로잡는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    // KEYS[1]=카운터, ARGV[1]=증감량, ARGV[2]=TTL(ms). 키가 없으면 -1 (다음 조회에서 DB로 채운다)
+    private static final byte[] ADJUST_SCRIPT = (
+            "if redis.call('exists', KEYS[1]) == 0 then return -1 end " +
+            "local count = redis.call('incrby', KEYS[1], ARGV[1]) " +
+            "if count < 0 then count = 0 redis.call('set', KEYS[1], 0) end " +
+            "redis.call('pexpire', KEYS[1], ARGV[2]) " +
+            "return count").getBytes(StandardCharsets.UTF_8);
+
+    // KEYS[1]=카운터, ARGV[1]=조회 시점 값, ARGV[2]=DB 기준 값. 그 사이 증감이 있었으면 건드리지 않는다
+    private static final byte[] RECONCILE_SCRIPT = (
+            "if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('set', KEYS[1], ARGV[2], 'KEEPTTL') " +
+            "return 1").getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    @Value("${app.notification.unread-counter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.notification.unread-counter.ttl-hours:72}")
+    private long ttlHours;
+
+    @Value("${app.notification.unread-counter.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    // 캐시된 개수 (없거나 Redis를 쓸 수 없으면 null)
+    public Long get(Long userId) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(keyOf(userId));
+            return value != null ? Long.valueOf(value) : null;
+        } catch (Exception e) {
+            log.warn("⚠️ 읽지 않은 알림 카운터 조회 실패, DB로 조회합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // DB에서 센 개수로 카운터를 채운다 (이미 있으면 그대로 둔다)
+    public void prime(Long userId, long count) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().setIfAbsent(keyOf(userId), String.valueOf(count), Duration.ofHours(ttlHours));
+        } catch (Exception e) {
+            log.warn("⚠️ 읽지 않은 알림 카운터 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    public void adjust(Long userId, long delta) {
+        if (delta != 0) {
+            adjustAll(Map.of(userId, delta));
+        }
+    }
+
+    // 트랜잭션 커밋 후 파이프라인 한 번으로 여러 사용자의 카운터를 증감
+    public void adjustAll(Map<Long, Long> deltasByUser) {
+        if (!enabled || deltasByUser.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            byte[] ttl = String.valueOf(Duration.ofHours(ttlHours).toMillis()).getBytes(StandardCharsets.UTF_8);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                deltasByUser.forEach((userId, delta) -> connection.scriptingCommands().eval(
+                        ADJUST_SCRIPT, ReturnType.INTEGER, 1,
+                        keyOf(userId).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(delta).getBytes(StandardCharsets.UTF_8), ttl));
+                return null;
+            });
+        });
+    }
+
+    // 증감량을 알 수 없는 변경 후에는 카운터를 지우고 다음 조회에서 다시 센다
+    public void evict(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> redisTemplate.delete(keyOf(userId)));
+    }
+
+    /**
+     * 존재하는 카운터를 배치 단위로 DB의 읽지 않은 알림 개수와 비교해 바로잡는다.
+     * 값을 먼저 읽고 DB를 센 뒤, 그 사이 증감이 없었던 키만 compare-and-set 한다.
+     *
+     * @return 바로잡은 카운터 수
+     */
+    public int reconcile() {
+        if (!enabled) {
+            return 0;
+        }
+
+        int fixed = 0;
+        List<String> keys = new ArrayList<>(reconcileBatchSize);
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(reconcileBatchSize).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == reconcileBatchSize) {
+                    fixed += reconcileBatch(keys);
+                    keys.clear();
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            fixed += reconcileBatch(keys);
+        }
+
+        if (fixed > 0) {
+            log.info("🔧 읽지 않은 알림 카운터 보정: {}건", fixed);
+        }
+        return fixed;
+    }
+
+    private int reconcileBatch(List<String> keys) {
+        List<String> snapshot = redisTemplate.opsForValue().multiGet(keys);
+        if (snapshot == null) {
+            return 0;
+        }
+
+        List<Long> userIds = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            userIds.add(Long.valueOf(key.substring(KEY_PREFIX.length())));
+        }
+        Map<Long, Long> actual = new HashMap<>();
+        for (Object[] row : notificationRepository.countUnreadByUserIds(userIds)) {
+            actual.put((Long) row[0], (Long) row[1]);
+        }
+
+        List<Integer> stale = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String expected = String.valueOf(actual.getOrDefault(userIds.get(i), 0L));
+            if (snapshot.get(i) != null && !snapshot.get(i).equals(expected)) {
+                stale.add(i);
+            }
+        }
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i : stale) {
+                connection.scriptingCommands().eval(RECONCILE_SCRIPT, ReturnType.INTEGER, 1,
+                        keys.get(i).getBytes(StandardCharsets.UTF_8),
+                        snapshot.get(i).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(actual.getOrDefault(userIds.get(i), 0L)).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        return (int) results.stream().filter(result -> Long.valueOf(1L).equals(result)).count();
+    }
+
+    // 롤백된 변경이 카운터에 반영되지 않도록 커밋 이후에 실행 (트랜잭션 밖이면 바로 실행)
+    private void afterCommit(Runnable action) {
+        Runnable safe = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.warn("⚠️ 읽지 않은 알림 카운터 갱신 실패 (보정 작업에서 복구): {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+
+    private static String keyOf(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
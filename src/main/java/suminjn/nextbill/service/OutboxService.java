@@ -0,0 +1,132 @@
+package suminjn.nextbill.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import suminjn.nextbill.domain.OutboxMessage;
+import suminjn.nextbill.dto.OutboxAppendedEvent;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.kafka.SubscriptionAlertProducer;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 트랜잭션 아웃박스 (outbox 테이블)
+ *
+ * 알림 이벤트를 Kafka로 바로 보내지 않고 호출자의 트랜잭션 안에서 outbox에 기록한다.
+ * 도메인 변경이 롤백되면 이벤트도 함께 사라지고, 커밋된 이벤트는 OutboxRelay가 발행할 때까지 남아 있다.
+ * 커밋되면 OutboxAppendedEvent로 릴레이를 바로 깨우므로 발행이 폴링 주기를 기다리지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox (topic, message_key, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    // 다른 릴레이 인스턴스가 잠근 행은 건너뛴다
+    private static final String CLAIM_SQL =
+            "SELECT outbox_id, topic, message_key, payload, created_at FROM outbox " +
+            "WHERE published_at IS NULL ORDER BY outbox_id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String MARK_PUBLISHED_SQL =
+            "UPDATE outbox SET published_at = :publishedAt WHERE outbox_id IN (:ids)";
+
+    private static final String PRUNE_SQL =
+            "DELETE FROM outbox WHERE published_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 알림 이벤트를 호출자 트랜잭션 안에서 기록한다 (JDBC 배치 한 번).
+     */
+    @Transactional
+    public void appendAlerts(Collection<SubscriptionAlertEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (SubscriptionAlertEvent event : events) {
+            rows.add(new Object[]{SubscriptionAlertProducer.TOPIC, String.valueOf(event.getSubscriptionId()), toJson(event), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        eventPublisher.publishEvent(new OutboxAppendedEvent(events.size()));
+    }
+
+    /**
+     * 발행되지 않은 행을 최대 limit건 잠그고 publisher에 넘긴 뒤, 발행에 성공한 행만 published_at을 채운다.
+     * 행 잠금은 이 트랜잭션이 끝날 때 풀리므로 실패한 행은 다음 주기에 다시 발행된다.
+     *
+     * @param publisher 발행에 성공한 outbox_id 목록을 돌려준다
+     * @return 발행에 성공한 행 수 (limit보다 작으면 남은 행이 없거나 일부가 실패한 것)
+     */
+    @Transactional
+    public int relayBatch(int limit, Function<List<OutboxMessage>, Collection<Long>> publisher) {
+        List<OutboxMessage> batch = jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> OutboxMessage.builder()
+                .outboxId(rs.getLong("outbox_id"))
+                .topic(rs.getString("topic"))
+                .messageKey(rs.getString("message_key"))
+                .payload(rs.getString("payload"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .build(), limit);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Collection<Long> published = publisher.apply(batch);
+        if (!published.isEmpty()) {
+            namedParameterJdbcTemplate.update(MARK_PUBLISHED_SQL,
+                    Map.of("publishedAt", Timestamp.valueOf(LocalDateTime.now()), "ids", published));
+        }
+        return published.size();
+    }
+
+    /**
+     * 발행이 끝난 행을 chunkSize건씩 나눠 지운다 (한 번에 큰 삭제로 잠금을 오래 잡지 않도록).
+     *
+     * @return 삭제한 전체 행 수
+     */
+    public long pruneDeliveredBefore(LocalDateTime before, int chunkSize) {
+        Timestamp cutoff = Timestamp.valueOf(before);
+        long total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PRUNE_SQL, cutoff, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+        return total;
+    }
+
+    public SubscriptionAlertEvent readAlert(OutboxMessage message) {
+        try {
+            return objectMapper.readValue(message.getPayload(), SubscriptionAlertEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 메시지 역직렬화 실패: " + message.getOutboxId(), e);
+        }
+    }
+
+    private String toJson(SubscriptionAlertEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 메시지 직렬화 실패: " + event, e);
+        }
+    }
+}
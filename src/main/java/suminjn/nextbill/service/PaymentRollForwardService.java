@@ -0,0 +1,83 @@
+package suminjn.nextbill.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import suminjn.nextbill.domain.enums.BillingCycle;
+import suminjn.nextbill.repository.SubscriptionRepository;
+import suminjn.nextbill.scheduler.ShardAssignment;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 연체된 결제일 일괄 이월
+ *
+ * 결제 주기별로 연체 구독 ID를 chunk-size 단위로 끊어 읽고, 각 묶음을 하나의 UPDATE 문으로
+ * 오늘 이후가 되는 최소 주기 수만큼 한 번에 이동시킨다. 여러 주기가 밀린 구독도 한 번의 실행으로
+ * 정리되며, 묶음마다 짧은 트랜잭션 안에서 alert_schedule도 함께 갱신한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentRollForwardService {
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final AlertScheduleService alertScheduleService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.alert.roll-forward.chunk-size:1000}")
+    private int chunkSize;
+
+    public long rollForward(LocalDate today, ShardAssignment assignment) {
+        long startedAt = System.currentTimeMillis();
+        long total = 0;
+
+        for (BillingCycle billingCycle : BillingCycle.values()) {
+            total += rollForward(billingCycle, today, assignment);
+        }
+
+        long elapsedMs = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("📅 총 {}건의 구독 결제일 업데이트 완료 ({}ms, {} rows/s)",
+                total, elapsedMs, total * 1000 / elapsedMs);
+        return total;
+    }
+
+    private long rollForward(BillingCycle billingCycle, LocalDate today, ShardAssignment assignment) {
+        PageRequest limit = PageRequest.of(0, chunkSize);
+        long total = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            List<Long> ids = subscriptionRepository.findOverdueIdsAfter(
+                    billingCycle, today, assignment.getShardCount(), assignment.getShards(), lastId, limit);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = switch (billingCycle) {
+                    case WEEKLY -> subscriptionRepository.rollForwardWeekly(ids, today);
+                    case YEARLY -> subscriptionRepository.rollForwardYearly(ids, today);
+                    case MONTHLY, CUSTOM -> subscriptionRepository.rollForwardMonthly(ids, today); // CUSTOM의 경우 기본값으로 월간 처리
+                };
+                alertScheduleService.replace(subscriptionRepository.findPaymentDatesByIds(ids));
+                return count;
+            });
+            total += updated != null ? updated : 0;
+
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        if (total > 0) {
+            log.info("💳 {} 구독 결제일 이월: {}건", billingCycle, total);
+        }
+        return total;
+    }
+}
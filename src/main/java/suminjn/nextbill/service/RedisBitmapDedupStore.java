@@ -0,0 +1,179 @@
+package suminjn.nextbill.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 비트맵 기반 중복 방지 저장소 (app.alert.dedup.backend=bitmap)
+ *
+ * (결제일, 알림 타입)마다 비트맵 키 alert:bitmap:{date}:{type} 하나를 두고 subscriptionId를 비트 오프셋으로 쓴다.
+ * 비트맵 크기는 최대 subscriptionId / 8 바이트이므로 ID 100만 기준 약 125KB이며,
+ * 키는 발송일 + 2일 자정에 EXPIREAT으로 하루치가 한 번에 만료된다.
+ * 비트맵은 발송 완료 여부만 담으므로 선점 상태는 짧은 TTL의 alert:claim:{id}:{type}:{date} 키로 관리한다.
+ */
+@Service
+@ConditionalOnProperty(name = "app.alert.dedup.backend", havingValue = "bitmap")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisBitmapDedupStore implements AlertDedupStore {
+
+    // Redis 비트 오프셋 상한 (2^32 - 1)
+    private static final long MAX_OFFSET = (1L << 32) - 1;
+
+    // 문자열 키 방식의 2일 TTL과 맞춘 보관 기간
+    private static final int RETENTION_DAYS = 2;
+
+    private static final byte[] RAW_CLAIM_SCRIPT = AlertClaimScripts.CLAIM_WITH_BITMAP.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RAW_FAIL_SCRIPT = AlertClaimScripts.FAIL.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RAW_RENEW_SCRIPT = AlertClaimScripts.RENEW.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${app.alert.consumer.claim-ttl-ms:60000}")
+    private long claimTtlMs;
+
+    @Override
+    public void markAsSent(SubscriptionAlertEvent event) {
+        markAllAsSent(List.of(event));
+    }
+
+    // 파이프라인 한 번으로 SETBIT 후 키별 만료 시각 지정
+    @Override
+    public void markAllAsSent(Collection<SubscriptionAlertEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Set<SubscriptionAlertEvent> expiring = new LinkedHashSet<>();
+        Set<String> keys = new HashSet<>();
+        for (SubscriptionAlertEvent event : events) {
+            if (keys.add(buildKey(event))) {
+                expiring.add(event);
+            }
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SubscriptionAlertEvent event : events) {
+                connection.stringCommands().setBit(rawKey(event), offsetOf(event), true);
+            }
+            for (SubscriptionAlertEvent event : expiring) {
+                connection.keyCommands().expireAt(rawKey(event), expireAtOf(event));
+            }
+            return null;
+        });
+        log.debug("✅ Redis 비트맵 일괄 저장 완료: {}건, 키 {}개", events.size(), keys.size());
+    }
+
+    @Override
+    public ClaimResult tryClaim(SubscriptionAlertEvent event) {
+        Long code = redisTemplate.execute(AlertClaimScripts.CLAIM_WITH_BITMAP_SCRIPT,
+                List.of(buildKey(event), buildClaimKey(event)),
+                String.valueOf(offsetOf(event)), owner, String.valueOf(claimTtlMs));
+        return AlertClaimScripts.toResult(code);
+    }
+
+    // 파이프라인 한 번으로 GETBIT 확인 + claim 선점
+    @Override
+    public Map<SubscriptionAlertEvent, ClaimResult> tryClaimAll(List<SubscriptionAlertEvent> events) {
+        Map<SubscriptionAlertEvent, ClaimResult> results = new LinkedHashMap<>();
+        if (events.isEmpty()) {
+            return results;
+        }
+
+        byte[] rawOwner = owner.getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = String.valueOf(claimTtlMs).getBytes(StandardCharsets.UTF_8);
+        List<Object> codes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SubscriptionAlertEvent event : events) {
+                connection.scriptingCommands().eval(RAW_CLAIM_SCRIPT, ReturnType.INTEGER, 2,
+                        rawKey(event), buildClaimKey(event).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(offsetOf(event)).getBytes(StandardCharsets.UTF_8), rawOwner, ttl);
+            }
+            return null;
+        });
+        for (int i = 0; i < events.size(); i++) {
+            results.put(events.get(i), AlertClaimScripts.toResult(codes.get(i)));
+        }
+        return results;
+    }
+
+    @Override
+    public void markAllFailed(Collection<SubscriptionAlertEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        byte[] rawOwner = owner.getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = String.valueOf(claimTtlMs).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SubscriptionAlertEvent event : events) {
+                connection.scriptingCommands().eval(RAW_FAIL_SCRIPT, ReturnType.INTEGER, 1,
+                        buildClaimKey(event).getBytes(StandardCharsets.UTF_8), rawOwner, ttl);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void renewClaims(Collection<SubscriptionAlertEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        byte[] rawOwner = owner.getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = String.valueOf(claimTtlMs).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SubscriptionAlertEvent event : events) {
+                connection.scriptingCommands().eval(RAW_RENEW_SCRIPT, ReturnType.INTEGER, 1,
+                        buildClaimKey(event).getBytes(StandardCharsets.UTF_8), rawOwner, ttl);
+            }
+            return null;
+        });
+    }
+
+    private String buildClaimKey(SubscriptionAlertEvent event) {
+        return "alert:claim:" + event.dedupKey();
+    }
+
+    private String buildKey(SubscriptionAlertEvent event) {
+        return "alert:bitmap:" + event.getAlertDate() + ":" + event.getAlertType().name();
+    }
+
+    private byte[] rawKey(SubscriptionAlertEvent event) {
+        return buildKey(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long offsetOf(SubscriptionAlertEvent event) {
+        long offset = event.getSubscriptionId();
+        if (offset < 0 || offset > MAX_OFFSET) {
+            throw new IllegalArgumentException("비트맵 오프셋 범위를 벗어난 구독 ID입니다: " + offset);
+        }
+        return offset;
+    }
+
+    // 발송일(결제일 - N일) + 보관 기간 자정 (epoch seconds)
+    private long expireAtOf(SubscriptionAlertEvent event) {
+        LocalDate fireDate = event.getAlertDate().minusDays(event.getAlertType().getDaysBefore());
+        return fireDate.plusDays(RETENTION_DAYS).atStartOfDay(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
@@ -3,34 +3,138 @@ package suminjn.nextbill.service;
 import suminjn.nextbill.dto.SubscriptionAlertEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
+/**
+ * 알림마다 문자열 키(alert:{id}:{type}:{date})를 두는 기본 중복 방지 저장소
+ * 키 값은 claimed:{소유자} → sent | failed 순서로 바뀐다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class RedisService {
+public class RedisService implements AlertDedupStore {
+
+    private static final Duration SENT_TTL = Duration.ofDays(2);
+
+    private static final byte[] RAW_CLAIM_SCRIPT = AlertClaimScripts.CLAIM.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RAW_FAIL_SCRIPT = AlertClaimScripts.FAIL.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] RAW_RENEW_SCRIPT = AlertClaimScripts.RENEW.getBytes(StandardCharsets.UTF_8);
 
     private final StringRedisTemplate redisTemplate;
 
-    public boolean isAlreadySent(SubscriptionAlertEvent event) {
-        String key = buildKey(event);
-        Boolean exists = redisTemplate.hasKey(key);
-        return exists != null && exists;
-    }
+    private final String owner = UUID.randomUUID().toString();
+
+    // 발송 중 소비자가 죽었을 때 claim이 자동으로 풀리는 시간
+    @Value("${app.alert.consumer.claim-ttl-ms:60000}")
+    private long claimTtlMs;
 
+    @Override
     public void markAsSent(SubscriptionAlertEvent event) {
         String key = buildKey(event);
-        redisTemplate.opsForValue().set(key, "sent", Duration.ofDays(2));
+        redisTemplate.opsForValue().set(key, AlertClaimScripts.SENT, SENT_TTL);
         log.debug("✅ Redis 캐시 저장 완료: {}", key);
     }
 
+    // 파이프라인 한 번으로 여러 알림 마킹
+    @Override
+    public void markAllAsSent(Collection<SubscriptionAlertEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        byte[] value = AlertClaimScripts.SENT.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SubscriptionAlertEvent event : events) {
+                connection.stringCommands().set(buildKey(event).getBytes(StandardCharsets.UTF_8), value,
+                        Expiration.from(SENT_TTL), SetOption.upsert());
+            }
+            return null;
+        });
+        log.debug("✅ Redis 캐시 일괄 저장 완료: {}건", events.size());
+    }
+
+    @Override
+    public ClaimResult tryClaim(SubscriptionAlertEvent event) {
+        Long code = redisTemplate.execute(AlertClaimScripts.CLAIM_SCRIPT,
+                List.of(buildKey(event)), owner, String.valueOf(claimTtlMs));
+        return AlertClaimScripts.toResult(code);
+    }
+
+    // 파이프라인 한 번으로 여러 알림 선점
+    @Override
+    public Map<SubscriptionAlertEvent, ClaimResult> tryClaimAll(List<SubscriptionAlertEvent> events) {
+        Map<SubscriptionAlertEvent, ClaimResult> results = new LinkedHashMap<>();
+        if (events.isEmpty()) {
+            return results;
+        }
+
+        byte[] rawOwner = owner.getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = String.valueOf(claimTtlMs).getBytes(StandardCharsets.UTF_8);
+        List<Object> codes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SubscriptionAlertEvent event : events) {
+                connection.scriptingCommands().eval(RAW_CLAIM_SCRIPT, ReturnType.INTEGER, 1,
+                        buildKey(event).getBytes(StandardCharsets.UTF_8), rawOwner, ttl);
+            }
+            return null;
+        });
+        for (int i = 0; i < events.size(); i++) {
+            results.put(events.get(i), AlertClaimScripts.toResult(codes.get(i)));
+        }
+        return results;
+    }
+
+    // 파이프라인 한 번으로 본인 claim을 failed로 변경
+    @Override
+    public void markAllFailed(Collection<SubscriptionAlertEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        byte[] rawOwner = owner.getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = String.valueOf(claimTtlMs).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SubscriptionAlertEvent event : events) {
+                connection.scriptingCommands().eval(RAW_FAIL_SCRIPT, ReturnType.INTEGER, 1,
+                        buildKey(event).getBytes(StandardCharsets.UTF_8), rawOwner, ttl);
+            }
+            return null;
+        });
+        log.debug("⚠️ Redis 알림 claim 실패 처리: {}건", events.size());
+    }
+
+    // 파이프라인 한 번으로 본인 claim의 TTL 연장
+    @Override
+    public void renewClaims(Collection<SubscriptionAlertEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        byte[] rawOwner = owner.getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = String.valueOf(claimTtlMs).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (SubscriptionAlertEvent event : events) {
+                connection.scriptingCommands().eval(RAW_RENEW_SCRIPT, ReturnType.INTEGER, 1,
+                        buildKey(event).getBytes(StandardCharsets.UTF_8), rawOwner, ttl);
+            }
+            return null;
+        });
+    }
+
     private String buildKey(SubscriptionAlertEvent event) {
-        return String.format("alert:%d:%s:%s",
-                event.getSubscriptionId(),
-                event.getAlertType().name(),
-                event.getAlertDate());
+        return "alert:" + event.dedupKey();
     }
 }
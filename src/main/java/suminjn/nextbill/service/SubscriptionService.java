@@ -2,16 +2,22 @@ package suminjn.nextbill.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import suminjn.nextbill.domain.Subscription;
+import suminjn.nextbill.dto.SubscriptionAlertTarget;
 import suminjn.nextbill.dto.SubscriptionRequestDto;
 import suminjn.nextbill.dto.SubscriptionResponseDto;
 import suminjn.nextbill.exception.EntityNotFoundException;
 import suminjn.nextbill.repository.SubscriptionRepository;
 import suminjn.nextbill.repository.UserRepository;
+import suminjn.nextbill.scheduler.ShardAssignment;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +27,7 @@ public class SubscriptionService {
 
     private final SubscriptionRepository subscriptionRepository;
     private final UserRepository userRepository;
+    private final AlertScheduleService alertScheduleService;
 
     public List<SubscriptionResponseDto> getSubscriptionsByUser(Long userId) {
         return subscriptionRepository.findByUser_UserId(userId).stream()
@@ -28,13 +35,17 @@ public class SubscriptionService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional
     public SubscriptionResponseDto createSubscription(SubscriptionRequestDto request) {
         Subscription sub = request.toEntity();
         sub.setUser(userRepository.findById(request.getUserId())
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다. ID: " + request.getUserId())));
-        return SubscriptionResponseDto.from(subscriptionRepository.save(sub));
+        Subscription saved = subscriptionRepository.save(sub);
+        alertScheduleService.refresh(saved);
+        return SubscriptionResponseDto.from(saved);
     }
 
+    @Transactional
     public SubscriptionResponseDto updateSubscription(Long id, SubscriptionRequestDto request) {
         Subscription existingSub = subscriptionRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("구독을 찾을 수 없습니다. ID: " + id));
@@ -46,18 +57,24 @@ public class SubscriptionService {
                 request.getNextPaymentDate()
         );
         
+        Subscription saved = subscriptionRepository.save(existingSub);
+        alertScheduleService.refresh(saved);
+
         log.info("구독 정보 수정 완료. ID: {}", id);
-        return SubscriptionResponseDto.from(subscriptionRepository.save(existingSub));
+        return SubscriptionResponseDto.from(saved);
     }
 
+    @Transactional
     public void delete(Long id) {
         if (!subscriptionRepository.existsById(id)) {
             throw new EntityNotFoundException("구독을 찾을 수 없습니다. ID: " + id);
         }
+        alertScheduleService.remove(id);
         subscriptionRepository.deleteById(id);
         log.info("구독 삭제 완료. ID: {}", id);
     }
 
+    @Transactional
     public SubscriptionResponseDto togglePause(Long id) {
         Subscription sub = subscriptionRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("구독을 찾을 수 없습니다. ID: " + id));
@@ -69,8 +86,10 @@ public class SubscriptionService {
             sub.pause();
             log.info("구독 일시정지. ID: {}", id);
         }
-        
-        return SubscriptionResponseDto.from(subscriptionRepository.save(sub));
+
+        Subscription saved = subscriptionRepository.save(sub);
+        alertScheduleService.refresh(saved);
+        return SubscriptionResponseDto.from(saved);
     }
 
     public Subscription findById(Long id) {
@@ -82,8 +101,35 @@ public class SubscriptionService {
         return subscriptionRepository.findByIsPausedFalseAndNextPaymentDateWithUser(date);
     }
 
-    public List<Subscription> findOverdueSubscriptions(LocalDate today) {
-        return subscriptionRepository.findOverdueSubscriptionsWithUser(today);
+    /**
+     * 주어진 결제일들에 해당하는 담당 샤드의 구독을 subscriptionId 기준 키셋 페이지로 나누어 전달한다.
+     * 각 페이지는 별도의 짧은 읽기 트랜잭션에서 프로젝션으로 조회되므로
+     * 대상 건수와 무관하게 한 번에 pageSize 건만 메모리에 유지된다.
+     *
+     * @return 전달한 전체 건수
+     */
+    public long forEachDuePage(Collection<LocalDate> dates, ShardAssignment assignment, int pageSize,
+                               Consumer<List<SubscriptionAlertTarget>> pageConsumer) {
+        long total = 0;
+        Long lastId = 0L;
+        PageRequest limit = PageRequest.of(0, pageSize);
+
+        while (true) {
+            List<SubscriptionAlertTarget> page = subscriptionRepository.findAlertTargetsAfter(
+                    dates, assignment.getShardCount(), assignment.getShards(), lastId, limit);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            pageConsumer.accept(page);
+            total += page.size();
+
+            if (page.size() < pageSize) {
+                break;
+            }
+            lastId = page.get(page.size() - 1).getSubscriptionId();
+        }
+        return total;
     }
 
     public Subscription save(Subscription subscription) {
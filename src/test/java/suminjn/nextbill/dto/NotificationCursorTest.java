@@ -0,0 +1,41 @@
+package suminjn.nextbill.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 마이크로초까지 같은 키가 나온다")
+    void roundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 7, 15, 9, 30, 0, 123_456_000);
+
+        NotificationCursor decoded = NotificationCursor.decode(new NotificationCursor(createdAt, 42L).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getNotificationId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("초 단위가 0인 시각도 복원된다")
+    void roundTripWithoutSeconds() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 7, 15, 9, 30);
+
+        assertThat(NotificationCursor.decode(new NotificationCursor(createdAt, 1L).encode()).getCreatedAt())
+                .isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 커서는 IllegalArgumentException")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> NotificationCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NotificationCursor.decode("!!"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
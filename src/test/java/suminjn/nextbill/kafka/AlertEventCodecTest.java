@@ -0,0 +1,69 @@
+package suminjn.nextbill.kafka;
+
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import suminjn.nextbill.domain.enums.AlertType;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AlertEventCodecTest {
+
+    private final SubscriptionAlertEvent event = SubscriptionAlertEvent.builder()
+            .subscriptionId(300L)
+            .userEmail("test@nextbill.com")
+            .serviceName("넷플릭스")
+            .alertType(AlertType.D_1)
+            .alertTypeDisplay(AlertType.D_1.getDisplayName())
+            .alertDate(LocalDate.of(2025, 7, 15))
+            .build();
+
+    @Test
+    @DisplayName("바이너리 인코딩 후 디코딩하면 원래 이벤트와 같다")
+    void roundTrip() {
+        byte[] encoded = AlertEventCodec.encode(event);
+
+        assertThat(encoded[0]).isEqualTo(AlertEventCodec.VERSION);
+        assertThat(AlertEventCodec.decode(encoded)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("null 필드도 그대로 복원된다")
+    void roundTripWithNulls() {
+        SubscriptionAlertEvent empty = new SubscriptionAlertEvent();
+
+        assertThat(AlertEventCodec.decode(AlertEventCodec.encode(empty))).isEqualTo(empty);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전이나 잘린 데이터는 예외가 발생한다")
+    void rejectInvalidData() {
+        byte[] encoded = AlertEventCodec.encode(event);
+        byte[] truncated = java.util.Arrays.copyOf(encoded, encoded.length - 3);
+        encoded[0] = 99;
+
+        assertThatThrownBy(() -> AlertEventCodec.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AlertEventCodec.decode(truncated)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("헤더가 없는 기존 JSON 메시지와 바이너리 메시지를 모두 읽는다")
+    void deserializeBothFormats() {
+        AlertEventDeserializer deserializer = new AlertEventDeserializer();
+
+        RecordHeaders jsonHeaders = new RecordHeaders();
+        byte[] json = new AlertEventSerializer(AlertEventSerializer.FORMAT_JSON)
+                .serialize("topic", jsonHeaders, event);
+        RecordHeaders binaryHeaders = new RecordHeaders();
+        byte[] binary = new AlertEventSerializer(AlertEventSerializer.FORMAT_BINARY)
+                .serialize("topic", binaryHeaders, event);
+
+        assertThat(deserializer.deserialize("topic", new RecordHeaders(), json)).isEqualTo(event);
+        assertThat(deserializer.deserialize("topic", binaryHeaders, binary)).isEqualTo(event);
+        assertThat(binary.length).isLessThan(json.length);
+    }
+}
@@ -0,0 +1,79 @@
+package suminjn.nextbill.mail;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailTemplateEngineTest {
+
+    @Test
+    @DisplayName("알림 템플릿을 텍스트와 HTML로 렌더링하고 HTML 값은 이스케이프한다")
+    void renderAlert() {
+        MailTemplateEngine engine = new MailTemplateEngine(null, 4);
+
+        MailContent content = engine.render("alert", "noreply@nextbill.com", "user@nextbill.com", Map.of(
+                "serviceName", "<Netflix>",
+                "alertDate", LocalDate.of(2025, 7, 15),
+                "alertTypeDisplay", "D-3"));
+
+        assertThat(content.getSubject()).isEqualTo("[NextBill] 구독 결제 알림 - <Netflix>");
+        assertThat(content.getText()).isEqualTo("안녕하세요.\n\n다음 구독 결제가 예정되어 있습니다:\n\n"
+                + "서비스명: <Netflix>\n결제 예정일: 2025-07-15 (D-3)\n\n감사합니다.\n- NextBill");
+        assertThat(content.getHtml()).contains("&lt;Netflix&gt;").doesNotContain("<Netflix>");
+        assertThat(content.getTemplate()).isEqualTo("alert@1");
+    }
+
+    @Test
+    @DisplayName("섹션은 목록 원소마다 반복하고 값이 없으면 건너뛴다")
+    void renderSections() {
+        MailTemplateEngine engine = new MailTemplateEngine(null, 4);
+
+        MailContent digest = engine.render("alert-digest", "noreply@nextbill.com", "user@nextbill.com", Map.of(
+                "count", 2,
+                "items", List.of(
+                        Map.of("serviceName", "A", "alertDate", "2025-07-15", "alertTypeDisplay", "D-1"),
+                        Map.of("serviceName", "B", "alertDate", "2025-07-17", "alertTypeDisplay", "D-3"))));
+        MailContent test = engine.render("test-email", "noreply@nextbill.com", "user@nextbill.com",
+                Map.of("now", "2025-07-15T09:00"));
+
+        assertThat(digest.getSubject()).isEqualTo("[NextBill] 구독 결제 알림 - 2건");
+        assertThat(digest.getText()).contains("- A: 2025-07-15 (D-1)\n- B: 2025-07-17 (D-3)\n");
+        assertThat(test.getText()).contains("현재 시간: 2025-07-15T09:00").doesNotContain("테스트 메시지");
+    }
+
+    @Test
+    @DisplayName("override 디렉터리 변경 시 다시 컴파일하고, 컴파일 실패 시 기존 버전을 유지한다")
+    void hotReload(@TempDir Path directory) throws Exception {
+        MailTemplateEngine engine = new MailTemplateEngine(directory, 4);
+        assertThat(engine.reloadIfChanged()).isFalse();
+
+        Files.writeString(directory.resolve("alert.subject.txt"), "새 제목 - {{serviceName}}");
+        assertThat(engine.reloadIfChanged()).isTrue();
+        assertThat(engine.getVersion("alert")).isEqualTo(2);
+        assertThat(engine.render("alert", "a", "b", Map.of("serviceName", "X")).getSubject()).isEqualTo("새 제목 - X");
+
+        Path subject = directory.resolve("alert.subject.txt");
+        Files.writeString(subject, "깨진 제목 {{#serviceName}}");
+        Files.setLastModifiedTime(subject, FileTime.fromMillis(System.currentTimeMillis() + 1000));
+        engine.reloadIfChanged();
+        assertThat(engine.getVersion("alert")).isEqualTo(2);
+        assertThat(engine.render("alert", "a", "b", Map.of("serviceName", "X")).getSubject()).isEqualTo("새 제목 - X");
+    }
+
+    @Test
+    @DisplayName("섹션 짝이 맞지 않으면 컴파일에 실패한다")
+    void compileError() {
+        assertThatThrownBy(() -> CompiledTemplate.compile("broken", "{{#a}}{{/b}}", false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,97 @@
+package suminjn.nextbill.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PooledMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private PooledMailSender sender;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl settings = new JavaMailSenderImpl();
+        settings.setHost("localhost");
+        settings.setPort(ServerSetupTest.SMTP.getPort());
+
+        // 연결당 5건마다 재연결되도록 설정
+        sender = new PooledMailSender(settings, 2, 5, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.destroy();
+    }
+
+    @Test
+    @DisplayName("여러 메일을 연결 풀로 나눠 모두 발송한다")
+    void sendAll() throws Exception {
+        List<MailContent> messages = IntStream.range(0, 23)
+                .mapToObj(i -> message("user" + i + "@nextbill.com", "알림 " + i))
+                .toList();
+
+        Map<MailContent, Exception> failures = sender.sendAll(messages, Function.identity());
+
+        assertThat(failures).isEmpty();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(23);
+        List<String> subjects = new ArrayList<>();
+        for (MimeMessage message : received) {
+            subjects.add(message.getSubject());
+        }
+        assertThat(subjects).contains("알림 0", "알림 22");
+    }
+
+    @Test
+    @DisplayName("단건 발송도 풀의 연결을 재사용한다")
+    void sendSingle() {
+        sender.send(message("single@nextbill.com", "단건"));
+        sender.send(message("single@nextbill.com", "단건"));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("HTML 본문이 있으면 multipart/alternative로 발송한다")
+    void sendMultipart() throws Exception {
+        sender.send(MailContent.builder()
+                .from("noreply@nextbill.com")
+                .to("html@nextbill.com")
+                .subject("HTML")
+                .text("본문")
+                .html("<p>본문</p>")
+                .template("alert@1")
+                .build());
+
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getContentType()).startsWith("multipart/");
+        assertThat(received.getHeader("X-NextBill-Template")).containsExactly("alert@1");
+    }
+
+    private MailContent message(String to, String subject) {
+        return MailContent.builder()
+                .from("noreply@nextbill.com")
+                .to(to)
+                .subject(subject)
+                .text("본문")
+                .build();
+    }
+}
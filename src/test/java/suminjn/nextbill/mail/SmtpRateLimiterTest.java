@@ -0,0 +1,54 @@
+package suminjn.nextbill.mail;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SmtpRateLimiterTest {
+
+    @Test
+    @DisplayName("일일 한도를 다 쓰면 기다리지 않고 거절하고 포화 상태로 알린다")
+    void dailyLimit() throws Exception {
+        SmtpRateLimiter limiter = new SmtpRateLimiter(100, 10, 3, 2,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), ZoneId.systemDefault());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.acquire()).isTrue();
+            limiter.release(SmtpRateLimiter.Outcome.SUCCESS);
+        }
+
+        assertThat(limiter.acquire()).isFalse();
+        assertThat(limiter.isSaturated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("제한 응답이면 동시 발송 수를 절반으로 줄이고, 연속 성공하면 하나씩 늘린다")
+    void aimd() throws Exception {
+        SmtpRateLimiter limiter = new SmtpRateLimiter(0, 1, 0, 4,
+                Duration.ofSeconds(1), Duration.ofMillis(50), ZoneId.systemDefault());
+
+        assertThat(limiter.acquire()).isTrue();
+        limiter.release(SmtpRateLimiter.Outcome.THROTTLED);
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(2);
+        assertThat(limiter.isSaturated()).isTrue();
+
+        // cooldown이 끝날 때까지 기다린 뒤 허가
+        for (int i = 0; i < 2; i++) {
+            assertThat(limiter.acquire()).isTrue();
+            limiter.release(SmtpRateLimiter.Outcome.SUCCESS);
+        }
+        assertThat(limiter.getConcurrencyLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("SMTP 응답으로 제한과 일일 한도 초과를 구분한다")
+    void classifyResponses() {
+        assertThat(SmtpRateLimiter.isThrottle(new Exception("421 4.7.0 Try again later"))).isTrue();
+        assertThat(SmtpRateLimiter.isThrottle(new Exception("550 5.1.1 The email account does not exist"))).isFalse();
+        assertThat(SmtpRateLimiter.isDailyQuotaExceeded(new Exception("550-5.4.5 Daily user sending limit exceeded"))).isTrue();
+    }
+}
@@ -0,0 +1,142 @@
+package suminjn.nextbill.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import suminjn.nextbill.domain.Subscription;
+import suminjn.nextbill.domain.User;
+import suminjn.nextbill.domain.enums.AlertType;
+import suminjn.nextbill.domain.enums.BillingCycle;
+import suminjn.nextbill.dto.SubscriptionAlertTarget;
+import suminjn.nextbill.scheduler.ShardAssignment;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 4개 알림 잡(D-7/D-3/D-1/D-Day 각각 조회)과 단일 IN 조회 패스를 시드 데이터로 비교한다.
+ * ./gradlew benchmark 로 실행한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+class AlertScanBenchmarkTest {
+
+    private static final int USER_COUNT = 200;
+    private static final int SUBSCRIPTION_COUNT = 20_000;
+    private static final int PAGE_SIZE = 500;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void seed() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(User.builder().email("bench" + i + "@nextbill.com").name("bench" + i).build());
+        }
+        userRepository.saveAll(users);
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIPTION_COUNT; i++) {
+            subscriptions.add(Subscription.builder()
+                    .user(users.get(i % USER_COUNT))
+                    .name("service" + i)
+                    .cost(10_000)
+                    .billingCycle(BillingCycle.MONTHLY)
+                    .startDate(today.minusMonths(1))
+                    .nextPaymentDate(today.plusDays(i % 30))
+                    .isPaused(i % 10 == 0)
+                    .build());
+        }
+        subscriptionRepository.saveAll(subscriptions);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("단일 IN 조회 패스와 기존 4회 조회 결과 비교 및 소요 시간 측정")
+    void compareUnifiedPassWithFourJobs() {
+        // 워밍업
+        Set<String> fourJobs = runFourJobs();
+        Set<String> unified = runUnifiedPass();
+        assertThat(unified).isEqualTo(fourJobs);
+
+        long fourJobsNanos = 0;
+        long unifiedNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            runFourJobs();
+            fourJobsNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            runUnifiedPass();
+            unifiedNanos += System.nanoTime() - start;
+        }
+
+        System.out.printf("[benchmark] subscriptions=%d, targets=%d, rounds=%d%n",
+                SUBSCRIPTION_COUNT, unified.size(), ROUNDS);
+        System.out.printf("[benchmark] four jobs     : %.2f ms/run%n", fourJobsNanos / 1_000_000.0 / ROUNDS);
+        System.out.printf("[benchmark] unified pass  : %.2f ms/run%n", unifiedNanos / 1_000_000.0 / ROUNDS);
+    }
+
+    // 기존 방식: 알림 타입마다 엔티티 + 사용자 fetch join 조회
+    private Set<String> runFourJobs() {
+        Set<String> keys = new HashSet<>();
+        for (AlertType alertType : AlertType.values()) {
+            LocalDate targetDate = today.plusDays(alertType.getDaysBefore());
+            for (Subscription sub : subscriptionRepository.findByIsPausedFalseAndNextPaymentDateWithUser(targetDate)) {
+                keys.add(sub.getSubscriptionId() + ":" + alertType + ":" + sub.getUser().getEmail());
+            }
+            entityManager.clear();
+        }
+        return keys;
+    }
+
+    // 단일 패스: IN 조회 후 결제일로 알림 타입 판별
+    private Set<String> runUnifiedPass() {
+        Map<LocalDate, AlertType> alertTypeByDate = new HashMap<>();
+        for (AlertType alertType : AlertType.values()) {
+            alertTypeByDate.put(today.plusDays(alertType.getDaysBefore()), alertType);
+        }
+
+        ShardAssignment all = ShardAssignment.all();
+        Set<String> keys = new HashSet<>();
+        Long lastId = 0L;
+        while (true) {
+            List<SubscriptionAlertTarget> page = subscriptionRepository.findAlertTargetsAfter(
+                    alertTypeByDate.keySet(), all.getShardCount(), all.getShards(), lastId, PageRequest.of(0, PAGE_SIZE));
+            for (SubscriptionAlertTarget target : page) {
+                AlertType alertType = alertTypeByDate.get(target.getNextPaymentDate());
+                keys.add(target.getSubscriptionId() + ":" + alertType + ":" + target.getUserEmail());
+            }
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            lastId = page.get(page.size() - 1).getSubscriptionId();
+        }
+        return keys;
+    }
+}
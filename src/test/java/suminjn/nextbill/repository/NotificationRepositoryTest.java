@@ -0,0 +1,104 @@
+package suminjn.nextbill.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import suminjn.nextbill.domain.Notification;
+import suminjn.nextbill.domain.User;
+import suminjn.nextbill.domain.enums.NotificationPriority;
+import suminjn.nextbill.domain.enums.NotificationType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class NotificationRepositoryTest {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private User other;
+
+    // owner: 읽지 않은 알림 3건 + 읽은 알림 2건, other: 읽지 않은 알림 1건
+    private final List<Long> ownerUnreadIds = new ArrayList<>();
+    private final List<Long> ownerReadIds = new ArrayList<>();
+    private Long otherUnreadId;
+
+    @BeforeEach
+    void seed() {
+        owner = userRepository.save(User.builder().email("owner@nextbill.com").name("owner").build());
+        other = userRepository.save(User.builder().email("other@nextbill.com").name("other").build());
+
+        for (int i = 0; i < 3; i++) {
+            ownerUnreadIds.add(save(owner, false).getNotificationId());
+        }
+        for (int i = 0; i < 2; i++) {
+            ownerReadIds.add(save(owner, true).getNotificationId());
+        }
+        otherUnreadId = save(other, false).getNotificationId();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("일괄 읽음 처리는 본인의 읽지 않은 알림만 바꾸고 바뀐 행 수를 돌려준다")
+    void markAsReadByIdsTouchesOnlyOwnUnread() {
+        List<Long> ids = List.of(ownerUnreadIds.get(0), ownerUnreadIds.get(1), ownerReadIds.get(0), otherUnreadId);
+
+        int updated = notificationRepository.markAsReadByIds(owner.getUserId(), ids, LocalDateTime.now());
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(notificationRepository.countByUserAndIsReadFalse(owner)).isEqualTo(1);
+        assertThat(notificationRepository.countByUserAndIsReadFalse(other)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("읽음 상태별 일괄 삭제로 줄어든 읽지 않은 알림 수를 정확히 알 수 있다")
+    void deleteByIdsSplitsUnreadAndRead() {
+        List<Long> ids = List.of(ownerUnreadIds.get(0), ownerReadIds.get(0), ownerReadIds.get(1), otherUnreadId);
+
+        int deletedUnread = notificationRepository.deleteByIds(owner.getUserId(), ids, false);
+        int deletedRead = notificationRepository.deleteByIds(owner.getUserId(), ids, true);
+
+        assertThat(deletedUnread).isEqualTo(1);
+        assertThat(deletedRead).isEqualTo(2);
+        assertThat(notificationRepository.findById(otherUnreadId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("전체 읽음 처리와 전체 삭제는 문장 하나로 해당 사용자 알림만 처리한다")
+    void markAllAndDeleteAllByUser() {
+        assertThat(notificationRepository.markAllAsRead(owner.getUserId(), LocalDateTime.now())).isEqualTo(3);
+        assertThat(notificationRepository.countByUserAndIsReadFalse(owner)).isZero();
+
+        assertThat(notificationRepository.deleteAllByUserId(owner.getUserId())).isEqualTo(5);
+        assertThat(notificationRepository.count()).isEqualTo(1);
+    }
+
+    private Notification save(User user, boolean read) {
+        return notificationRepository.save(Notification.builder()
+                .user(user)
+                .message("테스트 알림")
+                .type(NotificationType.SYSTEM)
+                .priority(NotificationPriority.LOW)
+                .isRead(read)
+                .readAt(read ? LocalDateTime.now() : null)
+                .build());
+    }
+}
@@ -0,0 +1,180 @@
+package suminjn.nextbill.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import suminjn.nextbill.domain.Subscription;
+import suminjn.nextbill.domain.User;
+import suminjn.nextbill.domain.enums.BillingCycle;
+import suminjn.nextbill.dto.SubscriptionPaymentDate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제일 일괄 이월 쿼리(MySQL 날짜 연산)를 LocalDate.plusWeeks/plusMonths/plusYears 기준 결과와 비교한다
+ * DIV, TIMESTAMPDIFF의 월말 처리는 H2에서 MySQL과 같게 동작하지 않으므로 실제 MySQL에서 검증한다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class SubscriptionRollForwardTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().email("owner@nextbill.com").name("owner").build());
+    }
+
+    @Test
+    @DisplayName("월간: 31일 결제일은 짧은 달 말일로 보정되고, 여러 달 밀린 경우 원래 결제일 기준으로 한 번에 이월된다")
+    void monthlyClampsAndCatchesUp() {
+        assertRollsForward(BillingCycle.MONTHLY, LocalDate::plusMonths, List.of(
+                // 말일 보정 (평년 2월 28일, 윤년 2월 29일)
+                new Case(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 15)),
+                new Case(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 10)),
+                // 여러 달 밀림: 2/28 → 3/28 → 4/28이 아니라 1/31 + 3개월 = 4/30
+                new Case(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 4, 15)),
+                // 보정된 날짜가 오늘보다 이전이면 한 달 더 (8/31 + 6개월 = 2/28 < 3/1)
+                new Case(LocalDate.of(2024, 8, 31), LocalDate.of(2025, 3, 1)),
+                // 정확히 한 달 밀린 경우는 오늘로
+                new Case(LocalDate.of(2025, 2, 15), LocalDate.of(2025, 3, 15)),
+                new Case(LocalDate.of(2025, 3, 14), LocalDate.of(2025, 3, 15)),
+                new Case(LocalDate.of(2023, 12, 31), LocalDate.of(2025, 3, 15))));
+    }
+
+    @Test
+    @DisplayName("주간: (밀린 일수 + 6) DIV 7 주만큼 이월해 오늘 이후 첫 결제일이 된다")
+    void weeklyRoundsUpToWholeWeeks() {
+        LocalDate today = LocalDate.of(2025, 3, 15);
+        assertRollsForward(BillingCycle.WEEKLY, LocalDate::plusWeeks, List.of(
+                new Case(today.minusDays(1), today),
+                new Case(today.minusDays(6), today),
+                new Case(today.minusDays(7), today),   // 정확히 1주 → 오늘
+                new Case(today.minusDays(8), today),
+                new Case(today.minusDays(50), today),
+                new Case(today.minusDays(365), today)));
+    }
+
+    @Test
+    @DisplayName("연간: 2월 29일은 평년 2월 28일로 보정되고, 여러 해 밀린 경우 한 번에 이월된다")
+    void yearlyClampsLeapDay() {
+        assertRollsForward(BillingCycle.YEARLY, LocalDate::plusYears, List.of(
+                new Case(LocalDate.of(2024, 2, 29), LocalDate.of(2025, 2, 28)),
+                new Case(LocalDate.of(2024, 2, 29), LocalDate.of(2025, 3, 1)),
+                new Case(LocalDate.of(2020, 6, 10), LocalDate.of(2025, 6, 11)),
+                new Case(LocalDate.of(2024, 6, 10), LocalDate.of(2025, 6, 10))));
+    }
+
+    @Test
+    @DisplayName("오늘 또는 이후 결제일과 대상 ID 밖의 구독은 건드리지 않는다")
+    void leavesTodayAndFutureUntouched() {
+        LocalDate today = LocalDate.of(2025, 3, 15);
+        Long dueToday = save(BillingCycle.MONTHLY, today);
+        Long future = save(BillingCycle.MONTHLY, today.plusDays(1));
+        Long overdueNotSelected = save(BillingCycle.MONTHLY, today.minusDays(1));
+        Long overdue = save(BillingCycle.MONTHLY, today.minusDays(1));
+        entityManager.flush();
+
+        int updated = subscriptionRepository.rollForwardMonthly(List.of(dueToday, future, overdue), today);
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(paymentDates(List.of(dueToday, future, overdueNotSelected, overdue))).containsOnly(
+                Map.entry(dueToday, today),
+                Map.entry(future, today.plusDays(1)),
+                Map.entry(overdueNotSelected, today.minusDays(1)),
+                Map.entry(overdue, today.minusDays(1).plusMonths(1)));
+    }
+
+    // 케이스마다 결제일이 오늘 이후가 되는 최소 주기 수를 LocalDate로 구해 쿼리 결과와 비교 (오늘별로 한 번씩 실행)
+    private void assertRollsForward(BillingCycle billingCycle, BiFunction<LocalDate, Long, LocalDate> plus,
+                                    List<Case> cases) {
+        Map<LocalDate, List<Case>> casesByToday = cases.stream()
+                .collect(Collectors.groupingBy(Case::today, LinkedHashMap::new, Collectors.toList()));
+
+        casesByToday.forEach((today, todayCases) -> {
+            Map<Long, LocalDate> expected = new LinkedHashMap<>();
+            for (Case c : todayCases) {
+                expected.put(save(billingCycle, c.paymentDate()), expectedNext(c.paymentDate(), today, plus));
+            }
+            entityManager.flush();
+
+            int updated = switch (billingCycle) {
+                case WEEKLY -> subscriptionRepository.rollForwardWeekly(expected.keySet(), today);
+                case YEARLY -> subscriptionRepository.rollForwardYearly(expected.keySet(), today);
+                case MONTHLY, CUSTOM -> subscriptionRepository.rollForwardMonthly(expected.keySet(), today);
+            };
+            entityManager.clear();
+
+            assertThat(updated).isEqualTo(todayCases.size());
+            assertThat(paymentDates(expected.keySet())).containsExactlyInAnyOrderEntriesOf(expected);
+        });
+    }
+
+    private static LocalDate expectedNext(LocalDate paymentDate, LocalDate today,
+                                          BiFunction<LocalDate, Long, LocalDate> plus) {
+        long periods = 1;
+        while (plus.apply(paymentDate, periods).isBefore(today)) {
+            periods++;
+        }
+        return plus.apply(paymentDate, periods);
+    }
+
+    private Long save(BillingCycle billingCycle, LocalDate nextPaymentDate) {
+        return subscriptionRepository.save(Subscription.builder()
+                .user(user)
+                .name("service")
+                .cost(10_000)
+                .billingCycle(billingCycle)
+                .startDate(nextPaymentDate)
+                .nextPaymentDate(nextPaymentDate)
+                .isPaused(false)
+                .build()).getSubscriptionId();
+    }
+
+    private Map<Long, LocalDate> paymentDates(Collection<Long> ids) {
+        Map<Long, LocalDate> dates = new LinkedHashMap<>();
+        for (SubscriptionPaymentDate paymentDate : subscriptionRepository.findPaymentDatesByIds(ids)) {
+            dates.put(paymentDate.getSubscriptionId(), paymentDate.getNextPaymentDate());
+        }
+        return dates;
+    }
+
+    private record Case(LocalDate paymentDate, LocalDate today) {
+    }
+}
@@ -0,0 +1,118 @@
+package suminjn.nextbill.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import suminjn.nextbill.support.RedisContainerSupport;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlertShardCoordinatorTest extends RedisContainerSupport {
+
+    private static final String JOB = "daily-alerts";
+
+    @Test
+    @DisplayName("혼자 있는 노드는 모든 샤드를 점유하고 리더가 된다")
+    void singleNodeOwnsAllShards() {
+        AlertShardCoordinator node = coordinator(true);
+
+        ShardAssignment assignment = node.acquireAssignment();
+
+        assertThat(assignment.getShards()).containsExactlyInAnyOrder(0L, 1L, 2L, 3L);
+        assertThat(node.isLeader()).isTrue();
+    }
+
+    @Test
+    @DisplayName("노드가 추가되면 초과분을 반납하고 두 노드가 샤드를 겹치지 않게 나눈다")
+    void rebalanceSplitsShardsBetweenNodes() {
+        AlertShardCoordinator first = coordinator(true);
+        AlertShardCoordinator second = coordinator(true);
+        first.acquireAssignment();
+
+        // 새 노드는 빈 샤드가 없어 처음에는 아무것도 갖지 못한다
+        assertThat(second.acquireAssignment().getShards()).isEmpty();
+
+        // 기존 노드가 공정 몫(2개)을 넘는 샤드를 반납하면 새 노드가 가져간다
+        Set<Long> firstShards = first.acquireAssignment().getShards();
+        Set<Long> secondShards = second.acquireAssignment().getShards();
+
+        assertThat(firstShards).hasSize(2).doesNotContainAnyElementsOf(secondShards);
+        assertThat(secondShards).hasSize(2);
+        Set<Long> all = new HashSet<>(firstShards);
+        all.addAll(secondShards);
+        assertThat(all).containsExactlyInAnyOrder(0L, 1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("실행 중으로 고정한 샤드는 공정 몫을 넘어도 반납하지 않는다")
+    void pinnedShardsAreNotReleased() {
+        AlertShardCoordinator first = coordinator(true);
+        AlertShardCoordinator second = coordinator(true);
+        ShardAssignment running = first.acquireAssignment();
+        first.pin(running);
+        second.acquireAssignment();
+
+        assertThat(first.acquireAssignment().getShards()).containsExactlyInAnyOrder(0L, 1L, 2L, 3L);
+        assertThat(second.acquireAssignment().getShards()).isEmpty();
+
+        first.unpin(running);
+        assertThat(first.acquireAssignment().getShards()).hasSize(2);
+        assertThat(second.acquireAssignment().getShards()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("완료 기록한 샤드는 같은 날짜·작업의 미완료 목록에서 빠진다")
+    void pendingShardsExcludeCompleted() {
+        AlertShardCoordinator node = coordinator(true);
+        LocalDate today = LocalDate.of(2026, 10, 17);
+        ShardAssignment assignment = node.acquireAssignment();
+
+        node.markCompleted(JOB, today, new ShardAssignment(4L, Set.of(0L, 1L)));
+
+        assertThat(node.pendingShards(JOB, today, assignment).getShards()).containsExactlyInAnyOrder(2L, 3L);
+        // 다른 날짜·다른 작업은 영향을 받지 않는다
+        assertThat(node.pendingShards(JOB, today.plusDays(1), assignment).getShards()).hasSize(4);
+        assertThat(node.pendingShards("other-job", today, assignment).getShards()).hasSize(4);
+        // 완료 기록은 만료 시간이 걸려 있다
+        assertThat(redisTemplate.getExpire("scheduler:done:" + JOB + ":" + today)).isPositive();
+    }
+
+    @Test
+    @DisplayName("완료 기록은 다른 노드에도 보인다")
+    void completionIsSharedAcrossNodes() {
+        AlertShardCoordinator first = coordinator(true);
+        AlertShardCoordinator second = coordinator(true);
+        LocalDate today = LocalDate.of(2026, 10, 17);
+        ShardAssignment all = new ShardAssignment(4L, Set.of(0L, 1L, 2L, 3L));
+
+        first.markCompleted(JOB, today, new ShardAssignment(4L, Set.of(3L)));
+
+        assertThat(second.pendingShards(JOB, today, all).getShards()).containsExactlyInAnyOrder(0L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("샤딩을 끄면 전체 키 공간을 그대로 돌려주고 완료 기록을 남기지 않는다")
+    void disabledPassesThrough() {
+        AlertShardCoordinator node = coordinator(false);
+        LocalDate today = LocalDate.of(2026, 10, 17);
+        ShardAssignment assignment = node.acquireAssignment();
+
+        node.markCompleted(JOB, today, assignment);
+
+        assertThat(assignment.getShards()).containsExactly(0L);
+        assertThat(node.pendingShards(JOB, today, assignment).getShards()).containsExactly(0L);
+        assertThat(redisTemplate.hasKey("scheduler:done:" + JOB + ":" + today)).isFalse();
+    }
+
+    private static AlertShardCoordinator coordinator(boolean enabled) {
+        AlertShardCoordinator coordinator = new AlertShardCoordinator(redisTemplate);
+        ReflectionTestUtils.setField(coordinator, "enabled", enabled);
+        ReflectionTestUtils.setField(coordinator, "shardCount", 4L);
+        ReflectionTestUtils.setField(coordinator, "leaseTtlMs", 30_000L);
+        return coordinator;
+    }
+}
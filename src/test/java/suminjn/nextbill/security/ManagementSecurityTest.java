@@ -0,0 +1,71 @@
+package suminjn.nextbill.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.management.username=ops",
+        "app.management.password=ops-secret"
+})
+@AutoConfigureMockMvc
+class ManagementSecurityTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @Test
+    @DisplayName("health는 인증 없이 응답한다")
+    void healthIsPublic() throws Exception {
+        int status = mockMvc.perform(get("/actuator/health")).andReturn().getResponse().getStatus();
+
+        // 외부 의존성 상태에 따라 200/503이 될 수 있지만 인증을 요구하지는 않는다
+        assertThat(status).isNotEqualTo(401).isNotEqualTo(403);
+    }
+
+    @Test
+    @DisplayName("metrics는 인증 없이 접근할 수 없다")
+    void metricsRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("잘못된 운영자 비밀번호는 거절한다")
+    void metricsRejectsWrongPassword() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").header(HttpHeaders.AUTHORIZATION, basic("ops", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("운영자 계정으로는 metrics를 조회할 수 있다")
+    void metricsAllowsOperator() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").header(HttpHeaders.AUTHORIZATION, basic("ops", "ops-secret")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("DLT 재처리 엔드포인트는 인증 없이 호출할 수 없고, 운영자는 조회할 수 있다")
+    void deadLettersRequireOperator() throws Exception {
+        mockMvc.perform(post("/actuator/alertdeadletters"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/alertdeadletters").header(HttpHeaders.AUTHORIZATION, basic("ops", "ops-secret")))
+                .andExpect(status().isOk());
+    }
+
+    private static String basic(String username, String password) {
+        String credentials = username + ":" + password;
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,73 @@
+package suminjn.nextbill.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.service.AlertDedupStore.ClaimResult;
+import suminjn.nextbill.support.RedisContainerSupport;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static suminjn.nextbill.service.AlertClaimScriptsTest.event;
+import static suminjn.nextbill.service.AlertClaimScriptsTest.waitUntil;
+
+class AlertClaimRenewerTest extends RedisContainerSupport {
+
+    private static final long CLAIM_TTL_MS = 300;
+
+    private RedisService sender;
+    private RedisService otherConsumer;
+    private AlertClaimRenewer renewer;
+
+    @BeforeEach
+    void setUp() {
+        sender = new RedisService(redisTemplate);
+        otherConsumer = new RedisService(redisTemplate);
+        ReflectionTestUtils.setField(sender, "claimTtlMs", CLAIM_TTL_MS);
+        ReflectionTestUtils.setField(otherConsumer, "claimTtlMs", CLAIM_TTL_MS);
+
+        renewer = new AlertClaimRenewer(sender);
+        ReflectionTestUtils.setField(renewer, "claimTtlMs", CLAIM_TTL_MS);
+        renewer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        renewer.stop();
+    }
+
+    @Test
+    @DisplayName("발송이 claim TTL보다 길어져도 Lease가 열려 있는 동안은 다른 소비자가 선점하지 못한다")
+    void holdsClaimUntilLeaseClosed() throws InterruptedException {
+        SubscriptionAlertEvent event = event(1L);
+        assertThat(sender.tryClaim(event)).isEqualTo(ClaimResult.CLAIMED);
+
+        try (AlertClaimRenewer.Lease lease = renewer.hold(List.of(event))) {
+            // 속도 제한에 걸린 긴 발송 (claim TTL의 3배 이상)
+            Thread.sleep(CLAIM_TTL_MS * 3);
+            assertThat(otherConsumer.tryClaim(event)).isEqualTo(ClaimResult.IN_PROGRESS);
+        }
+
+        // 연장이 멈추면 (소비자가 죽은 경우와 같이) TTL 만료 후 풀린다
+        waitUntil(() -> otherConsumer.tryClaim(event) == ClaimResult.CLAIMED);
+    }
+
+    @Test
+    @DisplayName("발송을 마쳐 sent로 바뀐 알림은 연장 대상이어도 그대로 둔다")
+    void leavesSentAlertsUntouched() throws InterruptedException {
+        SubscriptionAlertEvent event = event(1L);
+        sender.tryClaim(event);
+
+        try (AlertClaimRenewer.Lease lease = renewer.hold(List.of(event))) {
+            sender.markAsSent(event);
+            Thread.sleep(CLAIM_TTL_MS);
+        }
+
+        assertThat(otherConsumer.tryClaim(event)).isEqualTo(ClaimResult.ALREADY_SENT);
+        assertThat(redisTemplate.opsForValue().get("alert:" + event.dedupKey())).isEqualTo("sent");
+    }
+}
@@ -0,0 +1,151 @@
+package suminjn.nextbill.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import suminjn.nextbill.domain.enums.AlertType;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.service.AlertDedupStore.ClaimResult;
+import suminjn.nextbill.support.RedisContainerSupport;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * CLAIM / CLAIM_WITH_BITMAP / FAIL / RENEW 스크립트의 상태 전이 (claimed → sent / failed / 만료)
+ * 저장소 인스턴스마다 소유자(UUID)가 다르므로 인스턴스 두 개를 서로 다른 소비자로 본다.
+ */
+class AlertClaimScriptsTest extends RedisContainerSupport {
+
+    private static final long LONG_TTL_MS = 60_000;
+    private static final long SHORT_TTL_MS = 300;
+
+    enum Backend {
+        KEY, BITMAP;
+
+        AlertDedupStore create(long claimTtlMs) {
+            AlertDedupStore store = this == KEY
+                    ? new RedisService(redisTemplate)
+                    : new RedisBitmapDedupStore(redisTemplate);
+            ReflectionTestUtils.setField(store, "claimTtlMs", claimTtlMs);
+            return store;
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    @DisplayName("선점한 알림은 다른 소비자와 재전달 모두 IN_PROGRESS, sent 이후에는 ALREADY_SENT")
+    void claimedThenSent(Backend backend) {
+        AlertDedupStore consumerA = backend.create(LONG_TTL_MS);
+        AlertDedupStore consumerB = backend.create(LONG_TTL_MS);
+        SubscriptionAlertEvent event = event(1L);
+
+        assertThat(consumerA.tryClaim(event)).isEqualTo(ClaimResult.CLAIMED);
+        assertThat(consumerB.tryClaim(event)).isEqualTo(ClaimResult.IN_PROGRESS);
+        assertThat(consumerA.tryClaim(event)).isEqualTo(ClaimResult.IN_PROGRESS);
+
+        consumerA.markAsSent(event);
+
+        assertThat(consumerB.tryClaim(event)).isEqualTo(ClaimResult.ALREADY_SENT);
+        // sent 이후의 실패·연장 요청은 상태를 바꾸지 않는다
+        consumerA.markAllFailed(List.of(event));
+        consumerA.renewClaims(List.of(event));
+        assertThat(consumerA.tryClaim(event)).isEqualTo(ClaimResult.ALREADY_SENT);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    @DisplayName("failed 전환은 선점한 소비자만 할 수 있고, failed가 되면 다시 선점할 수 있다")
+    void failedByOwnerOnly(Backend backend) {
+        AlertDedupStore consumerA = backend.create(LONG_TTL_MS);
+        AlertDedupStore consumerB = backend.create(LONG_TTL_MS);
+        SubscriptionAlertEvent event = event(1L);
+        consumerA.tryClaim(event);
+
+        consumerB.markAllFailed(List.of(event));
+        assertThat(consumerB.tryClaim(event)).isEqualTo(ClaimResult.IN_PROGRESS);
+
+        consumerA.markAllFailed(List.of(event));
+        assertThat(consumerB.tryClaim(event)).isEqualTo(ClaimResult.CLAIMED);
+        assertThat(consumerA.tryClaim(event)).isEqualTo(ClaimResult.IN_PROGRESS);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    @DisplayName("선점한 소비자가 죽으면 claim TTL 만료 후 다른 소비자가 선점한다")
+    void expiredClaimIsReclaimable(Backend backend) throws InterruptedException {
+        AlertDedupStore consumerA = backend.create(SHORT_TTL_MS);
+        AlertDedupStore consumerB = backend.create(LONG_TTL_MS);
+        SubscriptionAlertEvent event = event(1L);
+
+        assertThat(consumerA.tryClaim(event)).isEqualTo(ClaimResult.CLAIMED);
+        assertThat(consumerB.tryClaim(event)).isEqualTo(ClaimResult.IN_PROGRESS);
+
+        waitUntil(() -> consumerB.tryClaim(event) == ClaimResult.CLAIMED);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    @DisplayName("claim 연장은 본인 claim에만 적용된다")
+    void renewExtendsOwnClaimOnly(Backend backend) throws InterruptedException {
+        AlertDedupStore consumerA = backend.create(SHORT_TTL_MS);
+        AlertDedupStore consumerB = backend.create(LONG_TTL_MS);
+        SubscriptionAlertEvent renewed = event(1L);
+        SubscriptionAlertEvent notRenewed = event(2L);
+        consumerA.tryClaimAll(List.of(renewed, notRenewed));
+
+        // 다른 소비자의 연장 요청은 TTL을 늘리지 않는다
+        consumerB.renewClaims(List.of(notRenewed));
+        // 본인 연장은 설정된 claim TTL로 다시 늘린다
+        ReflectionTestUtils.setField(consumerA, "claimTtlMs", LONG_TTL_MS);
+        consumerA.renewClaims(List.of(renewed));
+
+        waitUntil(() -> consumerB.tryClaim(notRenewed) == ClaimResult.CLAIMED);
+        assertThat(consumerB.tryClaim(renewed)).isEqualTo(ClaimResult.IN_PROGRESS);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Backend.class)
+    @DisplayName("파이프라인 일괄 선점도 알림마다 같은 상태 전이를 따른다")
+    void claimAllMixesResults(Backend backend) {
+        AlertDedupStore consumerA = backend.create(LONG_TTL_MS);
+        AlertDedupStore consumerB = backend.create(LONG_TTL_MS);
+        SubscriptionAlertEvent sent = event(1L);
+        SubscriptionAlertEvent inProgress = event(2L);
+        SubscriptionAlertEvent failed = event(3L);
+        SubscriptionAlertEvent fresh = event(4L);
+        consumerA.tryClaimAll(List.of(sent, inProgress, failed));
+        consumerA.markAllAsSent(List.of(sent));
+        consumerA.markAllFailed(List.of(failed));
+
+        assertThat(consumerB.tryClaimAll(List.of(sent, inProgress, failed, fresh))).containsExactly(
+                entry(sent, ClaimResult.ALREADY_SENT),
+                entry(inProgress, ClaimResult.IN_PROGRESS),
+                entry(failed, ClaimResult.CLAIMED),
+                entry(fresh, ClaimResult.CLAIMED));
+    }
+
+    static SubscriptionAlertEvent event(long subscriptionId) {
+        return SubscriptionAlertEvent.builder()
+                .subscriptionId(subscriptionId)
+                .userEmail("user" + subscriptionId + "@nextbill.com")
+                .serviceName("service")
+                .alertType(AlertType.D_3)
+                .alertTypeDisplay(AlertType.D_3.getDisplayName())
+                .alertDate(LocalDate.now().plusDays(7))
+                .build();
+    }
+
+    static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
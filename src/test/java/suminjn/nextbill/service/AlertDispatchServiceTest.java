@@ -0,0 +1,145 @@
+package suminjn.nextbill.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import suminjn.nextbill.domain.enums.AlertType;
+import suminjn.nextbill.dto.AlertSendResult;
+import suminjn.nextbill.dto.SubscriptionAlertEvent;
+import suminjn.nextbill.kafka.SubscriptionAlertProducer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AlertDispatchServiceTest {
+
+    private static final int MAX_CONCURRENCY = 4;
+    private static final int PARTITION_SIZE = 5;
+
+    @Mock
+    private SubscriptionAlertProducer alertProducer;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @InjectMocks
+    private AlertDispatchService alertDispatchService;
+
+    @Test
+    @DisplayName("virtual 모드는 페이지가 작아도 여러 페이지를 max-concurrency까지 병렬 발행하고 한도를 넘지 않는다")
+    void batchFansOutAcrossPagesUpToCap() throws Exception {
+        configure("virtual");
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger sent = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        given(alertProducer.sendAll(anyList())).willAnswer(invocation -> {
+            List<SubscriptionAlertEvent> events = invocation.getArgument(0);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            release.await(5, TimeUnit.SECONDS);
+            inFlight.decrementAndGet();
+            sent.addAndGet(events.size());
+            return new AlertSendResult(events.size(), List.of());
+        });
+
+        // 페이지 하나(파티션 하나)로는 한도를 채울 수 없는 작은 페이지 20개
+        Thread scanner = Thread.ofVirtual().start(() -> {
+            try (AlertDispatchService.DispatchBatch batch = alertDispatchService.openBatch()) {
+                for (int page = 0; page < 20; page++) {
+                    batch.dispatch(events(page * PARTITION_SIZE, PARTITION_SIZE));
+                }
+            }
+        });
+
+        waitUntil(() -> inFlight.get() == MAX_CONCURRENCY);
+        // 한도가 찬 동안 조회 스레드는 더 제출하지 못한다
+        Thread.sleep(100);
+        assertThat(inFlight.get()).isEqualTo(MAX_CONCURRENCY);
+        assertThat(scanner.isAlive()).isTrue();
+
+        release.countDown();
+        scanner.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(scanner.isAlive()).isFalse();
+        assertThat(maxInFlight.get()).isEqualTo(MAX_CONCURRENCY);
+        assertThat(sent.get()).isEqualTo(20 * PARTITION_SIZE);
+    }
+
+    @Test
+    @DisplayName("발행 단위를 닫으면 제출한 파티션이 모두 끝난 뒤에 반환한다")
+    void closeWaitsForAllPartitions() {
+        configure("virtual");
+        AtomicInteger sent = new AtomicInteger();
+        given(alertProducer.sendAll(anyList())).willAnswer(invocation -> {
+            List<SubscriptionAlertEvent> events = invocation.getArgument(0);
+            Thread.sleep(20);
+            sent.addAndGet(events.size());
+            return new AlertSendResult(events.size(), List.of());
+        });
+
+        alertDispatchService.dispatch(events(0, 33));
+
+        assertThat(sent.get()).isEqualTo(33);
+    }
+
+    @Test
+    @DisplayName("ack를 받지 못한 이벤트만 max-retries까지 다시 보낸다")
+    void retriesOnlyFailedEvents() {
+        configure("serial");
+        List<SubscriptionAlertEvent> events = events(0, 3);
+        SubscriptionAlertEvent failed = events.get(1);
+        given(alertProducer.sendAll(anyList()))
+                .willReturn(new AlertSendResult(2, List.of(failed)))
+                .willReturn(new AlertSendResult(1, List.of()));
+
+        alertDispatchService.dispatch(events);
+
+        verify(alertProducer).sendAll(events);
+        verify(alertProducer).sendAll(List.of(failed));
+    }
+
+    private void configure(String mode) {
+        ReflectionTestUtils.setField(alertDispatchService, "mode", mode);
+        ReflectionTestUtils.setField(alertDispatchService, "maxConcurrency", MAX_CONCURRENCY);
+        ReflectionTestUtils.setField(alertDispatchService, "partitionSize", PARTITION_SIZE);
+        ReflectionTestUtils.setField(alertDispatchService, "maxRetries", 2);
+    }
+
+    private static List<SubscriptionAlertEvent> events(int firstId, int count) {
+        List<SubscriptionAlertEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(SubscriptionAlertEvent.builder()
+                    .subscriptionId((long) (firstId + i))
+                    .userEmail("user" + (firstId + i) + "@nextbill.com")
+                    .serviceName("service")
+                    .alertType(AlertType.D_3)
+                    .alertTypeDisplay(AlertType.D_3.getDisplayName())
+                    .alertDate(LocalDate.of(2026, 10, 20))
+                    .build());
+        }
+        return events;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
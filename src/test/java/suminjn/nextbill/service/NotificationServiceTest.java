@@ -0,0 +1,158 @@
+package suminjn.nextbill.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import suminjn.nextbill.domain.Notification;
+import suminjn.nextbill.domain.User;
+import suminjn.nextbill.domain.enums.NotificationPriority;
+import suminjn.nextbill.domain.enums.NotificationType;
+import suminjn.nextbill.dto.NotificationRequestDto;
+import suminjn.nextbill.repository.NotificationRepository;
+import suminjn.nextbill.repository.UserRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationUnreadCounter unreadCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    private final User user = User.builder().userId(USER_ID).email("owner@nextbill.com").name("owner").build();
+
+    @Test
+    @DisplayName("카운터가 있으면 DB를 조회하지 않고 바로 돌려준다")
+    void unreadCountUsesCounter() {
+        given(unreadCounter.get(USER_ID)).willReturn(4L);
+
+        assertThat(notificationService.getUnreadCount(USER_ID)).isEqualTo(4L);
+        verifyNoInteractions(userRepository, notificationRepository);
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 DB에서 세고 카운터를 채운다")
+    void unreadCountPrimesCounterOnMiss() {
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user));
+        given(notificationRepository.countByUserAndIsReadFalse(user)).willReturn(3L);
+
+        assertThat(notificationService.getUnreadCount(USER_ID)).isEqualTo(3L);
+        verify(unreadCounter).prime(USER_ID, 3L);
+    }
+
+    @Test
+    @DisplayName("알림을 생성하면 카운터를 1 늘린다")
+    void createIncrements() {
+        NotificationRequestDto request = NotificationRequestDto.builder()
+                .message("테스트")
+                .type(NotificationType.PAYMENT_DUE)
+                .priority(NotificationPriority.LOW)
+                .build();
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user));
+        given(notificationRepository.save(any(Notification.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        notificationService.createNotification(USER_ID, request);
+
+        verify(unreadCounter).adjust(USER_ID, 1);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림을 읽으면 1 줄이고, 이미 읽은 알림은 그대로 둔다")
+    void markAsReadDecrementsOnlyUnread() {
+        given(notificationRepository.findById(10L)).willReturn(Optional.of(notification(10L, false)));
+        given(notificationRepository.findById(11L)).willReturn(Optional.of(notification(11L, true)));
+
+        notificationService.markAsRead(10L, USER_ID);
+        notificationService.markAsRead(11L, USER_ID);
+
+        verify(unreadCounter).adjust(USER_ID, -1);
+    }
+
+    @Test
+    @DisplayName("일괄 읽음은 실제로 바뀐 행 수만큼 줄인다")
+    void bulkReadDecrementsByUpdatedRows() {
+        given(userRepository.existsById(USER_ID)).willReturn(true);
+        given(notificationRepository.markAsReadByIds(any(), any(), any())).willReturn(2);
+
+        notificationService.markNotificationsAsRead(USER_ID, List.of(10L, 11L, 12L));
+
+        verify(unreadCounter).adjust(USER_ID, -2);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림을 삭제하면 1 줄이고, 읽은 알림 삭제는 카운터를 건드리지 않는다")
+    void deleteDecrementsOnlyUnread() {
+        given(notificationRepository.findById(10L)).willReturn(Optional.of(notification(10L, true)));
+
+        notificationService.deleteNotification(10L, USER_ID);
+
+        verify(unreadCounter, never()).adjust(anyLong(), anyLong());
+
+        given(notificationRepository.findById(11L)).willReturn(Optional.of(notification(11L, false)));
+
+        notificationService.deleteNotification(11L, USER_ID);
+
+        verify(unreadCounter).adjust(USER_ID, -1);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 지운 읽지 않은 알림 수만큼만 줄인다")
+    void bulkDeleteDecrementsByDeletedUnread() {
+        given(userRepository.existsById(USER_ID)).willReturn(true);
+        given(notificationRepository.deleteByIds(USER_ID, List.of(10L, 11L, 12L), false)).willReturn(1);
+        given(notificationRepository.deleteByIds(USER_ID, List.of(10L, 11L, 12L), true)).willReturn(2);
+
+        int deleted = notificationService.deleteNotifications(USER_ID, List.of(10L, 11L, 12L));
+
+        assertThat(deleted).isEqualTo(3);
+        verify(unreadCounter).adjust(USER_ID, -1);
+    }
+
+    @Test
+    @DisplayName("전체 삭제는 증감량 대신 카운터를 지워 다음 조회에서 다시 센다")
+    void clearAllEvicts() {
+        given(userRepository.existsById(USER_ID)).willReturn(true);
+
+        notificationService.clearAllNotifications(USER_ID);
+
+        verify(unreadCounter).evict(USER_ID);
+    }
+
+    private Notification notification(Long id, boolean read) {
+        return Notification.builder()
+                .notificationId(id)
+                .user(user)
+                .message("알림")
+                .type(NotificationType.PAYMENT_DUE)
+                .priority(NotificationPriority.LOW)
+                .isRead(read)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package suminjn.nextbill.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import suminjn.nextbill.repository.NotificationRepository;
+import suminjn.nextbill.support.RedisContainerSupport;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterTest extends RedisContainerSupport {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private NotificationUnreadCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new NotificationUnreadCounter(redisTemplate, notificationRepository);
+        ReflectionTestUtils.setField(counter, "enabled", true);
+        ReflectionTestUtils.setField(counter, "ttlHours", 72L);
+        ReflectionTestUtils.setField(counter, "reconcileBatchSize", 2);
+    }
+
+    @Test
+    @DisplayName("생성은 늘리고 읽음·삭제는 줄이며 0 아래로는 내려가지 않는다")
+    void adjustsAndClampsAtZero() {
+        counter.prime(1L, 2);
+
+        counter.adjust(1L, 1);   // 알림 생성
+        assertThat(counter.get(1L)).isEqualTo(3L);
+
+        counter.adjust(1L, -1);  // 읽음 처리
+        assertThat(counter.get(1L)).isEqualTo(2L);
+
+        counter.adjust(1L, -5);  // 카운터보다 많이 삭제
+        assertThat(counter.get(1L)).isZero();
+        assertThat(redisTemplate.getExpire("notification:unread:1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 증감하지 않고 다음 조회에서 DB 값으로 채운다")
+    void adjustSkipsMissingCounter() {
+        counter.adjust(1L, 3);
+        assertThat(counter.get(1L)).isNull();
+
+        counter.prime(1L, 7);
+        counter.prime(1L, 9);  // 이미 있으면 덮어쓰지 않는다
+        assertThat(counter.get(1L)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 증감을 한 번에 반영한다")
+    void adjustAllAppliesEveryUser() {
+        counter.prime(1L, 0);
+        counter.prime(2L, 4);
+
+        counter.adjustAll(Map.of(1L, 3L, 2L, -1L, 3L, 5L));
+
+        assertThat(counter.get(1L)).isEqualTo(3L);
+        assertThat(counter.get(2L)).isEqualTo(3L);
+        assertThat(counter.get(3L)).isNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 증감은 커밋된 뒤에만 반영되고, 롤백되면 반영되지 않는다")
+    void adjustRunsAfterCommitOnly() {
+        counter.prime(1L, 2);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counter.adjust(1L, -1);
+            assertThat(counter.get(1L)).isEqualTo(2L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(counter.get(1L)).isEqualTo(1L);
+
+        // 롤백: afterCommit이 호출되지 않는다
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counter.adjust(1L, 1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(counter.get(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("reconcile은 DB와 다른 카운터만 DB 값으로 바로잡는다")
+    void reconcileFixesStaleCounters() {
+        counter.prime(1L, 5);  // DB 3건
+        counter.prime(2L, 1);  // DB 1건
+        counter.prime(3L, 4);  // DB 0건 (조회 결과에 없음)
+        given(notificationRepository.countUnreadByUserIds(anyCollection())).willAnswer(invocation -> {
+            Map<Long, Long> db = Map.of(1L, 3L, 2L, 1L);
+            List<Long> userIds = List.copyOf(invocation.getArgument(0));
+            return userIds.stream()
+                    .filter(db::containsKey)
+                    .map(userId -> new Object[]{userId, db.get(userId)})
+                    .toList();
+        });
+
+        int fixed = counter.reconcile();
+
+        assertThat(fixed).isEqualTo(2);
+        assertThat(counter.get(1L)).isEqualTo(3L);
+        assertThat(counter.get(2L)).isEqualTo(1L);
+        assertThat(counter.get(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("DB를 세는 사이에 증감된 카운터는 compare-and-set으로 건드리지 않는다")
+    void reconcileSkipsCountersChangedDuringCount() {
+        counter.prime(1L, 5);
+        given(notificationRepository.countUnreadByUserIds(anyCollection())).willAnswer(invocation -> {
+            // 스냅샷 이후 새 알림이 생성되어 카운터가 바뀐 상황
+            counter.adjust(1L, 1);
+            return List.<Object[]>of(new Object[]{1L, 3L});
+        });
+
+        int fixed = counter.reconcile();
+
+        assertThat(fixed).isZero();
+        assertThat(counter.get(1L)).isEqualTo(6L);
+    }
+}
@@ -0,0 +1,51 @@
+package suminjn.nextbill.support;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Lua 스크립트·lease 등 실제 Redis 동작을 검증하는 테스트의 공통 기반
+ * Docker가 없는 환경에서는 건너뛴다. 테스트마다 데이터를 비운다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class RedisContainerSupport {
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    protected static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void connectRedis() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnectRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+}